@@ -59,4 +59,15 @@ public class KafkaConfig {
                 .configs(Map.of("min.insync.replicas", "1"))
                 .build();
     }
+
+    @Bean
+    public NewTopic auctionStateTopic() {
+        return TopicBuilder
+                .name(AuctionServiceEventConstants.AUCTION_STATE)
+                .replicas(1)
+                .partitions(1)
+                .compact()
+                .configs(Map.of("min.insync.replicas", "1"))
+                .build();
+    }
 }
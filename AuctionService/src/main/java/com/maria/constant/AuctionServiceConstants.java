@@ -1,8 +1,10 @@
 package com.maria.constant;
 
 public final class AuctionServiceConstants {
+    public static final String AUCTION_EXPIRY_INDEX = "auctions-by-end-date";
     public static final String RESPONSE_INVITATION_SENT = "Invitation sent successfully";
-    public static final String AUCTION_DELETED = "Auction successfully deleted";
+    public static final String AUCTION_DELETE_ACCEPTED = "Auction deletion accepted";
+    public static final String AUCTION_CLOSE_ACCEPTED = "Auction closing accepted";
     public static final String EX_AUCTION_NOT_EXIST = "Auction does not exist";
     public static final String LOG_BID_VALID = "Bid is validate for auction, auction id: {}";
     public static final String LOG_AUCTION_SAVED = "Auction successfully saved, auction id: {}";
@@ -26,7 +28,6 @@ public final class AuctionServiceConstants {
     public static final String LOG_FAIL_SEND_INVITATION_ERROR_MESSAGE = "Error occurred while sending invitation: {}";
     public static final String EX_FAIL_SEND_INVITATION = "Failed to send invitation";
     public static final String EX_AUCTION_NOT_AVAILABLE = "Auction is not available";
-    public static final String EX_REDIS_ERROR = "An unexpected error occurred while accessing Redis";
     public static final String LOG_USER_ADDED_TO_AUCTION = "User successfully added to the auction";
     public static final String LOG_ACCEPTANCE_ERROR = "Error during acceptance processing: {}";
     public static final String EX_ACCEPTANCE_ERROR = "Failed to process acceptance";
@@ -40,7 +41,7 @@ public final class AuctionServiceConstants {
     public static final String LOG_ERROR_GET_PUBLIC_AUCTIONS = "Error occurred while retrieving public auctions: {}";
     public static final String LOG_ERROR_GET_SELLERS_AUCTIONS = "Error occurred while retrieving seller's auctions: {}";
     public static final String LOG_ERROR_GET_ACTIVE_AUCTIONS = "Error occurred while retrieving active auctions: {}";
-    public static final String LOG_AUCTION_CLOSED = "Auction {} successfully closed";
+    public static final String LOG_AUCTION_CLOSED = "Auction {} close requested";
     public static final String LOG_FAIL_CLOSE_AUCTION = "Failed to close auction with ID {}: {}";
     public static final String EX_FAIL_CLOSE_AUCTION = "Failed to close auction";
     public static final String EX_FAIL_DELETE_AUCTION = "Failed to delete auction";
@@ -48,26 +49,39 @@ public final class AuctionServiceConstants {
     public static final String LOG_FAIL_DELETE_AUCTION = "Failed to delete auction with ID {}: {}";
     public static final String LOG_AUCTION_CACHED = "Auctions successfully cached";
     public static final String LOG_ERROR_CACHING_AUCTION = "Error while caching auctions: {}";
-    public static final String LOG_EXPIRED_AUCTIONS_PROCESSED = "Expired auctions successfully processed";
-    public static final String LOG_ERROR_PROCESS_EXPIRED_AUCTIONS = "Error while processing expired auctions: ";
+    public static final String LOG_EXPIRED_AUCTION_FINISHED = "Expired auction {} finished";
     public static final String LOG_NO_AUCTIONS_ENDING_SOON = "No auctions ending soon found.";
+    public static final String LOG_EXPIRED_CACHE_SWEPT = "Expired auctions removed from cache";
+    public static final String LOG_ERROR_SWEEP_EXPIRED_CACHE = "Error while removing expired auctions from cache: {}";
     public static final String EX_ERROR_CACHING_AUCTIONS = "Error while caching auctions";
-    public static final String EX_FAIL_GET_AUCTION_IN_CACHE = "Failed to get auction in cache";
     public static final String LOG_ERROR_GET_AUCTION_FROM_CACHE = "Error occurred while retrieving auction: {} from cache: {}";
-    public static final String LOG_ERROR_SETTING_AUCTION_FINISHED = "Error occurred while setting auction as finished";
+    public static final String LOG_FAIL_WRITE_AUCTION_TO_CACHE = "Failed to write auction {} to cache: {}";
+    public static final String LOG_DROP_UNREADABLE_CACHED_AUCTION = "Dropping unreadable cached auction {}: {}";
+    public static final String LOG_FAIL_REFRESH_AUCTION_IN_CACHE = "Failed to refresh auction {} in cache: {}";
+    public static final String LOG_ERROR_CACHE_INVALIDATION_LISTENER = "Error in auction cache invalidation listener: {}";
+    public static final String LOG_EXPIRY_WINDOW_LOADED = "Loaded {} auctions ending before {} into expiry scheduler";
+    public static final String LOG_FAIL_LOAD_EXPIRY_WINDOW = "Failed to load auctions into expiry scheduler: {}";
+    public static final String LOG_FAIL_EXPIRE_AUCTION = "Failed to finish expired auction {}: {}";
+    public static final String LOG_CLUSTER_REBALANCED = "Auction closing rebalanced across {} replicas, local shard: {}";
+    public static final String LOG_FAIL_RENEW_CLUSTER_LEASE = "Failed to renew auction closing lease: {}";
     public static final String LOG_AUCTION_SET_FINISHED = "Auction {} marked as finished in DB";
     public static final String LOG_FAIL_SEND_NOTIFICATION = "Failed to send notification for auction {}: {}";
-    public static final String LOG_FAIL_REMOVE_AUCTION_FROM_CACHE = "Failed to remove auction {} from cache";
     public static final String EX_FAIL_REMOVE_AUCTION_FROM_CACHE = "Failed to remove auction from cache";
     public static final String LOG_ERROR_REMOVING_AUCTION_FROM_CACHE = "Error occurred while removing auction {} from cache: {}";
     public static final String LOG_ERROR_CHECK_IF_USER_SEE_AUCTION = "Error occurred while checking if user {} can see auction {}: {}";
+    public static final String LOG_ERROR_CHECK_AUCTION_ACCESS_BATCH = "Error occurred while checking access of user {} to {} auctions: {}";
+    public static final String LOG_PARTICIPANT_PROJECTION_COLD = "Auction participant projection is cold, rebuilding it from the database";
+    public static final String LOG_PARTICIPANT_PROJECTION_REBUILT = "Auction participant projection rebuilt from {} participants";
+    public static final String LOG_FAIL_REBUILD_PARTICIPANT_PROJECTION = "Failed to rebuild auction participant projection: {}";
+    public static final String LOG_FAIL_PROJECT_PARTICIPANT = "Failed to project participant {} of auction {} to Redis: {}";
+    public static final String LOG_FAIL_IMPORT_PARTICIPANTS = "Failed to import participants from {}: {}";
     public static final String EX_FAIL_TO_CHECK_USER = "Failed to check user";
     public static final String LOG_ERROR_SAVING_USER_TO_AUCTION = "Error occurred while saving user {} to auction {}: {}";
     public static final String EX_FAIL_TO_SAVE_USER = "Failed to save user";
     public static final String LOG_BID_EVENT_NEW_BID = "Bid event: new bid: {} from user: {}";
-    public static final String LOG_ERROR_KAFKA_BID_CONSUMER = "Error in Kafka bid consumer: {}";
+    public static final String LOG_BID_REJECTED = "Bid for auction {} rejected: {}";
     public static final String LOG_ACCEPTANCE_EVENT = "Acceptance event: from user: {}";
-    public static final String LOG_ERROR_KAFKA_ACCEPTANCE_CONSUMER = "Error in Kafka acceptances consumer: ";
+    public static final String LOG_CLOSE_EVENT = "Close event: auction {}, expired: {}, deleted: {}";
     public static final String LOG_NOTIFICATION_SENT_TO_TOPIC = "Notification sent successfully to topic {}";
     public static final String LOG_FAIL_SEND_NOTIFICATION_FOR_TOPIC = "Failed to send notification for topic {}: {}";
     public static final String LOG_INVITATION_EVENT_SENT = "Invitation event sent successfully for auction {} to user {}";
@@ -76,6 +90,25 @@ public final class AuctionServiceConstants {
     public static final String LOG_FAIL_SEND_AUCTION_CREATED_EVENT = "Failed to send auction created event for auction {}";
     public static final String LOG_AUCTION_REMOVED_EVENT_SENT = "Auction removed event sent successfully for auction {}";
     public static final String LOG_FAIL_SEND_AUCTION_REMOVED_EVENT = "Failed to send auction removed event for auction {}";
+    public static final String LOG_AUCTION_CLOSE_EVENT_SENT = "Auction close event sent successfully for auction {}";
+    public static final String LOG_FAIL_SEND_AUCTION_CLOSE_EVENT = "Failed to send auction close event for auction {}: {}";
+    public static final String LOG_FAIL_SEND_AUCTION_STATE_EVENT = "Failed to send state event for auction {}: {}";
+    public static final String LOG_AUCTION_STATES_PUBLISHED = "Published state of {} active auctions";
+    public static final String LOG_ERROR_PUBLISH_AUCTION_STATES = "Error while publishing active auction states: {}";
+    public static final String LOG_AUCTION_STATE_PERSISTED = "Auction {} state persisted, current price: {}";
+    public static final String LOG_FAIL_PERSIST_AUCTION_STATE = "Failed to persist state of auction {}: {}";
+    public static final String LOG_FAIL_HANDLE_AUCTION_STATE_CHANGE = "Failed to publish persisted state of auction {}: {}";
+    public static final String LOG_AUCTION_STATE_CORRECTED = "Auction {} state corrected from database, current price: {}";
+    public static final String LOG_AUCTION_STATE_CONFLICT = "Auction {} changed in database before price {} was persisted, reloading order book";
+    public static final String LOG_ERROR_GET_AUCTION_FEED = "Error occurred while retrieving auction feed for user {}: {}";
+    public static final String LOG_FAIL_PUBLISH_PRICE_UPDATE = "Failed to publish live price update for auction {}: {}";
+    public static final String LOG_FAIL_READ_PRICE_UPDATE = "Failed to read live price update: {}";
+    public static final String LOG_ERROR_LIVE_SHARD_LISTENER = "Error in live update listener of shard {}: {}";
+    public static final String LOG_ERROR_GET_USER_AUCTIONS = "Error occurred while retrieving private auctions of user {}: {}";
+    public static final String EX_FAIL_GET_AUCTION_FEED = "Failed to get auction feed";
+    public static final String EX_INVALID_FEED_CURSOR = "Invalid feed cursor";
+    public static final String EX_INVALID_FEED_SORT = "Sort must be one of: ending_soon, newest, price";
+    public static final String EX_INVALID_FEED_LIMIT = "Limit must be a positive number not greater than the maximum page size";
     public static final String EX_INVALID_ID_FORMAT = "Invalid auction ID format";
     public static final String EX_ID_POSITIVE_NUMBER = "User ID must be not null and positive number";
     public static final String VALIDATION_STARTING_PRICE = "Starting price must be greater than 0";
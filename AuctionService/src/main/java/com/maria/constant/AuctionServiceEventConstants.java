@@ -8,4 +8,5 @@ public final class AuctionServiceEventConstants {
     public final static String AUCTION_CREATED = "auction-created-events";
     public final static String NEW_BID = "new-bid-events";
     public final static String ACCEPTANCE = "acceptance-events";
+    public final static String AUCTION_STATE = "auction-state-events";
 }
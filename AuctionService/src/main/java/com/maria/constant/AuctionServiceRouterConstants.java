@@ -3,6 +3,8 @@ package com.maria.constant;
 public final class AuctionServiceRouterConstants {
     public final static String GET_AUCTION = "/auctions/{id}";
     public final static String GET_ALL_AUCTIONS_FOR_USER = "/auctions/my_auctions/";
+    public final static String GET_AUCTION_FEED = "/auctions/feed";
+    public final static String GET_AUCTION_LIVE = "/auctions/{id}/live";
     public final static String GET_SELLER_ID = "/auctions/get_seller/{id}";
     public final static String GET_PRIVATE_AUCTION = "/auctions/private/";
     public final static String GET_AUCTIONS_FOR_SELLER = "/auctions/sell/";
@@ -0,0 +1,22 @@
+package com.maria.dto;
+
+import com.maria.core.entity.AuctionDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of the active auction feed")
+public class AuctionFeedPage {
+    @Schema(description = "Auctions on this page in the requested order")
+    private List<AuctionDTO> auctions;
+    @Schema(description = "Cursor for the next page, absent on the last page", example = "MjAyNS0wOC0xMlQxMjowMDowMHwxMDE")
+    private String nextCursor;
+}
@@ -0,0 +1,7 @@
+package com.maria.dto;
+
+public enum AuctionFeedSort {
+    ENDING_SOON,
+    NEWEST,
+    PRICE
+}
@@ -0,0 +1,28 @@
+package com.maria.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Price change of a watched auction")
+public class AuctionPriceUpdate {
+    @Schema(description = "ID of the auction", example = "101")
+    private Long auctionId;
+    @Schema(description = "Current highest bid price, or the starting price before the first bid", example = "250.00")
+    private BigDecimal currentPrice;
+    @Schema(description = "End date and time of the auction", example = "2025-08-12T12:00:00")
+    private LocalDateTime endDate;
+    @Schema(description = "Whether the auction has finished; no further updates follow a finished one", example = "false")
+    private boolean finished;
+    @Schema(description = "Time the update was produced", example = "2025-08-11T15:30:00")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.maria.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("auction_participant")
+public class AuctionParticipant {
+    @Id
+    @Column("id")
+    private Long participantId;
+    @Column("auction_id")
+    private Long auctionId;
+    @Column("user_id")
+    private Long userId;
+    @Column("joined_at")
+    private LocalDateTime joinedAt;
+}
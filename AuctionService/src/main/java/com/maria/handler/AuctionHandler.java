@@ -2,6 +2,7 @@ package com.maria.handler;
 
 import com.maria.constant.AuctionServiceConstants;
 import com.maria.core.entity.AuctionDTO;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.dto.AuctionUpdateDTO;
 import com.maria.dto.CreateAuctionRequestDTO;
 import com.maria.service.AuctionService;
@@ -9,6 +10,7 @@ import com.maria.validator.AuctionServiceValidation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Component;
@@ -21,6 +23,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Component
 public class AuctionHandler {
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
     private final AuctionService auctionService;
     private final AuctionServiceValidation auctionServiceValidation;
 
@@ -66,6 +69,21 @@ public class AuctionHandler {
                                         .bodyValue(auctionDTO)));
     }
 
+    public Mono<ServerResponse> watchAuction(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .zipWith(auctionServiceValidation.validateId(request.pathVariable("id")))
+                .flatMap(tuple -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(auctionService.watchAuction(tuple.getT2(), tuple.getT1())
+                                        .map(update -> ServerSentEvent.builder(update)
+                                                .event(update.isFinished() ? "finished" : "price")
+                                                .build()),
+                                new ParameterizedTypeReference<ServerSentEvent<AuctionPriceUpdate>>() {
+                                }));
+    }
+
     public Mono<ServerResponse> getSellerId(ServerRequest request) {
         return auctionService.getSellerId(Long.valueOf(request.pathVariable("id")))
                 .flatMap(sellerId -> ServerResponse
@@ -77,7 +95,7 @@ public class AuctionHandler {
     public Mono<ServerResponse> getActivePublicAuctions(ServerRequest request) {
         return ServerResponse
                 .ok()
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(resolveListMediaType(request))
                 .body(auctionService.getAllActivePublicAuctions(), AuctionDTO.class);
     }
 
@@ -87,9 +105,9 @@ public class AuctionHandler {
                 .zipWith(auctionServiceValidation.validateId(request.pathVariable("id")))
                 .flatMap(tuple -> auctionService.deleteAuction(tuple.getT2(), tuple.getT1())
                         .then(ServerResponse
-                                .ok()
+                                .accepted()
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(AuctionServiceConstants.AUCTION_DELETED)));
+                                .bodyValue(AuctionServiceConstants.AUCTION_DELETE_ACCEPTED)));
     }
 
     public Mono<ServerResponse> closeAuction(ServerRequest request) {
@@ -97,11 +115,10 @@ public class AuctionHandler {
                 .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
                 .zipWith(auctionServiceValidation.validateId(request.pathVariable("id")))
                 .flatMap(tuple -> auctionService.closeAuction(tuple.getT2(), tuple.getT1())
-                        .flatMap(auctionDTO ->
-                                ServerResponse
-                                        .ok()
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .bodyValue(auctionDTO)));
+                        .then(ServerResponse
+                                .accepted()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(AuctionServiceConstants.AUCTION_CLOSE_ACCEPTED)));
     }
 
     public Mono<ServerResponse> update(ServerRequest request) {
@@ -130,6 +147,20 @@ public class AuctionHandler {
                                 .bodyValue(auctions)));
     }
 
+    public Mono<ServerResponse> getAuctionFeed(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> auth.getAuthentication().getPrincipal().toString())
+                .flatMap(auctionServiceValidation::validateId)
+                .zipWith(auctionServiceValidation.validateFeedSort(request.queryParam("sort").orElse(null)))
+                .zipWith(auctionServiceValidation.validateFeedLimit(request.queryParam("limit").orElse(null)))
+                .flatMap(tuple -> auctionService.getAuctionFeed(tuple.getT1().getT1(), tuple.getT1().getT2(),
+                        request.queryParam("cursor").orElse(null), tuple.getT2()))
+                .flatMap(feedPage -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(feedPage));
+    }
+
     public Mono<ServerResponse> getPrivateAuctionsForUser(ServerRequest request) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(auth -> auth.getAuthentication().getPrincipal().toString())
@@ -146,11 +177,16 @@ public class AuctionHandler {
         return ReactiveSecurityContextHolder.getContext()
                 .map(auth -> auth.getAuthentication().getPrincipal().toString())
                 .flatMap(auctionServiceValidation::validateId)
-                .flatMap(userId -> auctionService.getAllSellersAuctions(userId)
-                        .collectList()
-                        .flatMap(auctions -> ServerResponse
-                                .ok()
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(auctions)));
+                .flatMap(userId -> ServerResponse
+                        .ok()
+                        .contentType(resolveListMediaType(request))
+                        .body(auctionService.getAllSellersAuctions(userId), AuctionDTO.class));
+    }
+
+    private MediaType resolveListMediaType(ServerRequest request) {
+        return request.headers().accept().stream()
+                .filter(mediaType -> STREAMING_MEDIA_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
     }
 }
@@ -1,10 +1,21 @@
 package com.maria.mapper;
 
 import com.maria.core.entity.AuctionDTO;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.entity.Auction;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface AuctionMapper {
     AuctionDTO toDto(Auction auction);
+
+    @Mapping(target = "currentPrice", expression = "java(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getStartingPrice())")
+    @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
+    AuctionPriceUpdate toPriceUpdate(Auction auction);
+
+    @Mapping(target = "currentPrice", expression = "java(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getStartingPrice())")
+    @Mapping(target = "finished", ignore = true)
+    @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
+    AuctionPriceUpdate toPriceUpdate(AuctionDTO auction);
 }
@@ -0,0 +1,26 @@
+package com.maria.repository;
+
+import com.maria.entity.AuctionParticipant;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AuctionParticipantRepository extends R2dbcRepository<AuctionParticipant, Long> {
+    @Modifying
+    @Query("""
+            INSERT INTO auction_participant (auction_id, user_id)
+            SELECT :auctionId, :userId WHERE EXISTS (SELECT 1 FROM auction WHERE id = :auctionId)
+            ON CONFLICT (auction_id, user_id) DO NOTHING
+            """)
+    Mono<Integer> addParticipant(Long auctionId, Long userId);
+
+    Mono<Boolean> existsByAuctionIdAndUserId(Long auctionId, Long userId);
+
+    @Query("SELECT auction_id FROM auction_participant WHERE user_id = :userId AND auction_id = ANY(:auctionIds)")
+    Flux<Long> findAuctionIdsByUserIdAndAuctionIds(Long userId, Long[] auctionIds);
+
+    @Query("SELECT auction_id FROM auction_participant WHERE user_id = :userId")
+    Flux<Long> findAuctionIdsByUserId(Long userId);
+}
@@ -1,10 +1,12 @@
 package com.maria.repository;
 
 import com.maria.entity.Auction;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public interface AuctionRepository extends R2dbcRepository<Auction, Long> {
@@ -14,7 +16,75 @@ public interface AuctionRepository extends R2dbcRepository<Auction, Long> {
 
     Flux<Auction> findByFinishedIsFalse();
 
+    Flux<Auction> findByFinishedIsFalseAndPublicAccessIsFalse();
+
     Mono<Auction> findByItemId(Long itemId);
 
     Flux<Auction> findByEndDateBetween(LocalDateTime fromDate, LocalDateTime toDate);
+
+    Flux<Auction> findByFinishedIsFalseAndEndDateBefore(LocalDateTime toDate);
+
+    Flux<Auction> findByFinishedIsFalseAndEndDateBetween(LocalDateTime fromDate, LocalDateTime toDate);
+
+    @Query("""
+            UPDATE auction SET current_price = :bidAmount, bidder = :bidderId
+            WHERE id = :auctionId
+            AND (current_price IS NULL OR current_price < :bidAmount)
+            AND NOT finished
+            AND :bidTime BETWEEN start_date AND end_date
+            RETURNING *
+            """)
+    Mono<Auction> updateHighestBid(Long auctionId, BigDecimal bidAmount, Long bidderId, LocalDateTime bidTime);
+
+    @Query("UPDATE auction SET finished = true WHERE id = :auctionId AND NOT finished RETURNING *")
+    Mono<Auction> setFinished(Long auctionId);
+
+    @Query("UPDATE auction SET finished = true WHERE id = :auctionId AND NOT finished AND end_date <= :now RETURNING *")
+    Mono<Auction> setFinishedIfEnded(Long auctionId, LocalDateTime now);
+
+    @Query("""
+            SELECT * FROM (
+                (SELECT * FROM auction
+                 WHERE NOT finished AND public_access AND seller <> :userId
+                 AND (end_date, id) > (:afterEndDate, :afterId)
+                 ORDER BY end_date, id LIMIT :limit)
+                UNION ALL
+                (SELECT * FROM auction
+                 WHERE id = ANY(:privateAuctionIds) AND NOT finished AND NOT public_access AND seller <> :userId
+                 AND (end_date, id) > (:afterEndDate, :afterId)
+                 ORDER BY end_date, id LIMIT :limit)
+            ) feed
+            ORDER BY end_date, id LIMIT :limit
+            """)
+    Flux<Auction> findFeedEndingSoon(Long userId, Long[] privateAuctionIds, LocalDateTime afterEndDate, Long afterId, int limit);
+
+    @Query("""
+            SELECT * FROM (
+                (SELECT * FROM auction
+                 WHERE NOT finished AND public_access AND seller <> :userId AND id < :beforeId
+                 ORDER BY id DESC LIMIT :limit)
+                UNION ALL
+                (SELECT * FROM auction
+                 WHERE id = ANY(:privateAuctionIds) AND NOT finished AND NOT public_access AND seller <> :userId AND id < :beforeId
+                 ORDER BY id DESC LIMIT :limit)
+            ) feed
+            ORDER BY id DESC LIMIT :limit
+            """)
+    Flux<Auction> findFeedNewest(Long userId, Long[] privateAuctionIds, Long beforeId, int limit);
+
+    @Query("""
+            SELECT * FROM (
+                (SELECT * FROM auction
+                 WHERE NOT finished AND public_access AND seller <> :userId
+                 AND (COALESCE(current_price, starting_price), id) > (:afterPrice, :afterId)
+                 ORDER BY COALESCE(current_price, starting_price), id LIMIT :limit)
+                UNION ALL
+                (SELECT * FROM auction
+                 WHERE id = ANY(:privateAuctionIds) AND NOT finished AND NOT public_access AND seller <> :userId
+                 AND (COALESCE(current_price, starting_price), id) > (:afterPrice, :afterId)
+                 ORDER BY COALESCE(current_price, starting_price), id LIMIT :limit)
+            ) feed
+            ORDER BY COALESCE(current_price, starting_price), id LIMIT :limit
+            """)
+    Flux<Auction> findFeedByPrice(Long userId, Long[] privateAuctionIds, BigDecimal afterPrice, Long afterId, int limit);
 }
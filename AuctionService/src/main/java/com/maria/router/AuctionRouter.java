@@ -2,6 +2,8 @@ package com.maria.router;
 
 import com.maria.constant.AuctionServiceRouterConstants;
 import com.maria.core.entity.AuctionDTO;
+import com.maria.dto.AuctionFeedPage;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.dto.AuctionUpdateDTO;
 import com.maria.dto.CreateAuctionRequestDTO;
 import com.maria.dto.ErrorResponse;
@@ -87,6 +89,54 @@ public class AuctionRouter {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = AuctionServiceRouterConstants.GET_AUCTION_LIVE,
+                    method = RequestMethod.GET,
+                    beanClass = AuctionHandler.class,
+                    beanMethod = "watchAuction",
+                    operation = @Operation(
+                            operationId = "watchAuction",
+                            summary = "Watch live price changes of an auction",
+                            description = "Opens a server-sent event stream for the auction. The first event carries the current price, each accepted bid pushes a \"price\" event, and a final \"finished\" event closes the stream. Slow clients keep only the most recent updates.",
+                            parameters = {
+                                    @Parameter(
+                                            name = "id",
+                                            in = ParameterIn.PATH,
+                                            required = true,
+                                            description = "auction ID"
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Stream of price updates",
+                                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                    schema = @Schema(implementation = AuctionPriceUpdate.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "404",
+                                            description = "Auction not found",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Auction not found\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "403",
+                                            description = "User does not have access to this auction",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"You are not a participant in this auction\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Auction ID is invalid",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Invalid auction ID format\"}"))
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = AuctionServiceRouterConstants.GET_ALL_AUCTIONS_FOR_USER,
                     method = RequestMethod.GET,
@@ -112,6 +162,44 @@ public class AuctionRouter {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = AuctionServiceRouterConstants.GET_AUCTION_FEED,
+                    method = RequestMethod.GET,
+                    beanClass = AuctionHandler.class,
+                    beanMethod = "getAuctionFeed",
+                    operation = @Operation(
+                            operationId = "getAuctionFeed",
+                            summary = "Get a page of active auctions visible to the current user",
+                            description = "Returns active public auctions and the private auctions the user participates in, excluding the user's own auctions. Pages are keyset-paginated: pass nextCursor from the previous page to continue.",
+                            parameters = {
+                                    @Parameter(name = "sort", in = ParameterIn.QUERY, description = "ending_soon (default), newest or price", example = "ending_soon"),
+                                    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "nextCursor of the previous page"),
+                                    @Parameter(name = "limit", in = ParameterIn.QUERY, description = "Page size", example = "20")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Page of auctions",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = AuctionFeedPage.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid sort, cursor or limit",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Invalid feed cursor\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "500",
+                                            description = "Service error",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Failed to get auction feed\"}"))
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = AuctionServiceRouterConstants.GET_SELLER_ID,
                     method = RequestMethod.GET,
@@ -199,13 +287,19 @@ public class AuctionRouter {
                     operation = @Operation(
                             operationId = "getAllAuctionsForUserSeller",
                             summary = "Get all auctions for the seller",
-                            description = "Returns all auctions where the authenticated user is the seller.",
+                            description = "Returns all auctions where the authenticated user is the seller as a JSON array, or streams them as NDJSON or server-sent events when requested by the Accept header.",
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "List of auctions for the seller",
-                                            content = @Content(mediaType = "application/json",
-                                                    array = @ArraySchema(schema = @Schema(implementation = AuctionDTO.class)))
+                                            content = {
+                                                    @Content(mediaType = "application/json",
+                                                            array = @ArraySchema(schema = @Schema(implementation = AuctionDTO.class))),
+                                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = AuctionDTO.class)),
+                                                    @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                            schema = @Schema(implementation = AuctionDTO.class))
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -229,7 +323,7 @@ public class AuctionRouter {
                     operation = @Operation(
                             operationId = "deleteAuction",
                             summary = "Delete auction by ID",
-                            description = "Deletes an auction by its ID. Only the seller who created the auction is allowed to delete it.",
+                            description = "Requests deletion of an auction by its ID. Only the seller who created the auction is allowed to delete it. The auction is finished and removed asynchronously by the replica that owns its bids.",
                             parameters = {
                                     @Parameter(
                                             name = "auctionId",
@@ -240,8 +334,8 @@ public class AuctionRouter {
                             },
                             responses = {
                                     @ApiResponse(
-                                            responseCode = "200",
-                                            description = "Auction successfully deleted"
+                                            responseCode = "202",
+                                            description = "Auction deletion accepted"
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -279,7 +373,7 @@ public class AuctionRouter {
                     operation = @Operation(
                             operationId = "closeAuction",
                             summary = "Close auction",
-                            description = "Closes the auction with the given ID. Only the auction's seller can perform this operation.",
+                            description = "Requests closing of the auction with the given ID. Only the auction's seller can perform this operation. The auction is finished asynchronously once its pending bids are persisted.",
                             parameters = {
                                     @Parameter(
                                             name = "id",
@@ -289,10 +383,8 @@ public class AuctionRouter {
                             },
                             responses = {
                                     @ApiResponse(
-                                            responseCode = "200",
-                                            description = "Auction successfully closed",
-                                            content = @Content(mediaType = "application/json",
-                                                    schema = @Schema(implementation = AuctionDTO.class))
+                                            responseCode = "202",
+                                            description = "Auction closing accepted"
                                     ),
                                     @ApiResponse(
                                             responseCode = "404",
@@ -436,13 +528,19 @@ public class AuctionRouter {
                     operation = @Operation(
                             operationId = "getActivePublicAuctions",
                             summary = "Get all active public auctions",
-                            description = "Returns a list of currently active public auctions available to all users.",
+                            description = "Returns currently active public auctions available to all users as a JSON array, or streams them as NDJSON or server-sent events when requested by the Accept header.",
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "List of active public auctions retrieved successfully",
-                                            content = @Content(mediaType = "application/json",
-                                                    array = @ArraySchema(schema = @Schema(implementation = AuctionDTO.class)))
+                                            content = {
+                                                    @Content(mediaType = "application/json",
+                                                            array = @ArraySchema(schema = @Schema(implementation = AuctionDTO.class))),
+                                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = AuctionDTO.class)),
+                                                    @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                            schema = @Schema(implementation = AuctionDTO.class))
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "500",
@@ -497,17 +595,21 @@ public class AuctionRouter {
     })
     RouterFunction<ServerResponse> router(AuctionHandler auctionHandler) {
         return RouterFunctions
-                .route(GET(AuctionServiceRouterConstants.GET_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getInfo)
+                .route(GET(AuctionServiceRouterConstants.GET_AUCTION_FEED).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getAuctionFeed)
+                .andRoute(GET(AuctionServiceRouterConstants.GET_AUCTION_LIVE).and(accept(MediaType.TEXT_EVENT_STREAM)), auctionHandler::watchAuction)
+                .andRoute(GET(AuctionServiceRouterConstants.GET_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getInfo)
                 .andRoute(GET(AuctionServiceRouterConstants.GET_ALL_AUCTIONS_FOR_USER).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getAllAuctionsForUser)
                 .andRoute(GET(AuctionServiceRouterConstants.GET_SELLER_ID).and(accept(MediaType.APPLICATION_JSON))
                         .and(request -> "true".equals(request.headers().firstHeader("X-Internal-Service"))), auctionHandler::getSellerId)
                 .andRoute(GET(AuctionServiceRouterConstants.GET_PRIVATE_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getPrivateAuctionsForUser)
-                .andRoute(GET(AuctionServiceRouterConstants.GET_AUCTIONS_FOR_SELLER).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getAllAuctionsForUserSeller)
+                .andRoute(GET(AuctionServiceRouterConstants.GET_AUCTIONS_FOR_SELLER)
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), auctionHandler::getAllAuctionsForUserSeller)
                 .andRoute(DELETE(AuctionServiceRouterConstants.DELETE_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::delete)
                 .andRoute(POST(AuctionServiceRouterConstants.CLOSE_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::closeAuction)
                 .andRoute(PATCH(AuctionServiceRouterConstants.UPDATE_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::update)
                 .andRoute(POST(AuctionServiceRouterConstants.CREATE_AUCTION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::create)
-                .andRoute(GET(AuctionServiceRouterConstants.GET_PUBLIC_ACTIVE_AUCTIONS).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::getActivePublicAuctions)
+                .andRoute(GET(AuctionServiceRouterConstants.GET_PUBLIC_ACTIVE_AUCTIONS)
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), auctionHandler::getActivePublicAuctions)
                 .andRoute(POST(AuctionServiceRouterConstants.SEND_INVITATION).and(accept(MediaType.APPLICATION_JSON)), auctionHandler::sendInvitationToUser);
     }
 }
@@ -0,0 +1,16 @@
+package com.maria.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+public interface AuctionAccessService {
+    Mono<Boolean> canAccess(Long userId, Long auctionId);
+
+    Mono<Set<Long>> findAccessibleAuctions(Long userId, List<Long> auctionIds);
+
+    Mono<Set<Long>> findParticipatingAuctions(Long userId);
+
+    Mono<Boolean> addParticipant(Long auctionId, Long userId);
+}
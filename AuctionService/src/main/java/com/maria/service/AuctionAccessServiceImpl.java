@@ -0,0 +1,225 @@
+package com.maria.service;
+
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.entity.AuctionParticipant;
+import com.maria.exception.DatabaseOperationException;
+import com.maria.repository.AuctionParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReactiveSetCommands;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionAccessServiceImpl implements AuctionAccessService {
+    private static final String PROJECTION_MARKER = "auction-participants:projection";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACCESS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/check-auction-access.lua"), List.class);
+    private final AuctionParticipantRepository auctionParticipantRepository;
+    private final ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    private final ReactiveSetOperations<String, String> setOperations;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private volatile boolean projectionReady;
+    @Value("${auction-access.warm-up-batch}")
+    private int warmUpBatch;
+    @Value("${auction-access.projection-check-ms}")
+    private long projectionCheckMs;
+
+    @PostConstruct
+    public void initialize() {
+        disposables.add(
+                Flux.interval(Duration.ZERO, Duration.ofMillis(projectionCheckMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> checkProjection())
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+    }
+
+    @Override
+    public Mono<Boolean> canAccess(Long userId, Long auctionId) {
+        if (!projectionReady) {
+            return existsInDatabase(userId, auctionId);
+        }
+        return setOperations.isMember("auction:" + auctionId + ":users", String.valueOf(userId))
+                .retry(3)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_CHECK_IF_USER_SEE_AUCTION, userId, auctionId, ex.getMessage());
+                    return existsInDatabase(userId, auctionId);
+                });
+    }
+
+    @Override
+    public Mono<Set<Long>> findAccessibleAuctions(Long userId, List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        if (!projectionReady) {
+            return findAccessibleInDatabase(userId, auctionIds);
+        }
+        List<String> keys = auctionIds.stream()
+                .map(auctionId -> "auction:" + auctionId + ":users")
+                .toList();
+        List<String> args = new ArrayList<>(auctionIds.size() + 1);
+        args.add(String.valueOf(userId));
+        auctionIds.forEach(auctionId -> args.add(String.valueOf(auctionId)));
+
+        return stringReactiveRedisTemplate.execute(ACCESS_SCRIPT, keys, args)
+                .next()
+                .map(accessible -> ((List<?>) accessible).stream()
+                        .map(auctionId -> Long.valueOf(auctionId.toString()))
+                        .collect(Collectors.toSet()))
+                .defaultIfEmpty(Set.of())
+                .retry(3)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_CHECK_AUCTION_ACCESS_BATCH, userId, auctionIds.size(), ex.getMessage());
+                    return findAccessibleInDatabase(userId, auctionIds);
+                });
+    }
+
+    @Override
+    public Mono<Set<Long>> findParticipatingAuctions(Long userId) {
+        if (!projectionReady) {
+            return findParticipatingInDatabase(userId);
+        }
+        return setOperations.members("user:" + userId + ":auctions")
+                .map(Long::valueOf)
+                .collect(Collectors.toSet())
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_GET_USER_AUCTIONS, userId, ex.getMessage());
+                    return findParticipatingInDatabase(userId);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> addParticipant(Long auctionId, Long userId) {
+        return auctionParticipantRepository.addParticipant(auctionId, userId)
+                .onErrorMap(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_SAVING_USER_TO_AUCTION, userId, auctionId, ex.getMessage());
+                    return new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_TO_SAVE_USER);
+                })
+                .flatMap(inserted -> setOperations.add("auction:" + auctionId + ":users", String.valueOf(userId))
+                        .then(setOperations.add("user:" + userId + ":auctions", String.valueOf(auctionId)))
+                        .retry(3)
+                        .onErrorResume(ex -> {
+                            log.warn(AuctionServiceConstants.LOG_FAIL_PROJECT_PARTICIPANT, userId, auctionId, ex.getMessage());
+                            projectionReady = false;
+                            return stringReactiveRedisTemplate.delete(PROJECTION_MARKER)
+                                    .onErrorResume(deleteEx -> Mono.empty());
+                        })
+                        .thenReturn(inserted > 0));
+    }
+
+    private Mono<Void> checkProjection() {
+        return stringReactiveRedisTemplate.hasKey(PROJECTION_MARKER)
+                .flatMap(ready -> {
+                    if (ready) {
+                        projectionReady = true;
+                        return Mono.empty();
+                    }
+                    projectionReady = false;
+                    log.warn(AuctionServiceConstants.LOG_PARTICIPANT_PROJECTION_COLD);
+                    return rebuildProjection();
+                })
+                .onErrorResume(ex -> {
+                    projectionReady = false;
+                    log.error(AuctionServiceConstants.LOG_FAIL_REBUILD_PARTICIPANT_PROJECTION, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> rebuildProjection() {
+        return importRedisOnlyParticipants()
+                .thenMany(auctionParticipantRepository.findAll())
+                .buffer(warmUpBatch)
+                .concatMap(this::projectParticipants)
+                .reduce(0L, Long::sum)
+                .flatMap(projected -> stringReactiveRedisTemplate.opsForValue().set(PROJECTION_MARKER, String.valueOf(projected))
+                        .doOnSuccess(marked -> {
+                            projectionReady = true;
+                            log.info(AuctionServiceConstants.LOG_PARTICIPANT_PROJECTION_REBUILT, projected);
+                        }))
+                .then();
+    }
+
+    private Mono<Long> projectParticipants(List<AuctionParticipant> participants) {
+        return stringReactiveRedisTemplate.execute(connection -> connection.setCommands()
+                        .sAdd(Flux.fromIterable(participants)
+                                .flatMapIterable(participant -> List.of(
+                                        ReactiveSetCommands.SAddCommand.values(List.of(toByteBuffer(participant.getUserId())))
+                                                .to(toByteBuffer("auction:" + participant.getAuctionId() + ":users")),
+                                        ReactiveSetCommands.SAddCommand.values(List.of(toByteBuffer(participant.getAuctionId())))
+                                                .to(toByteBuffer("user:" + participant.getUserId() + ":auctions"))))))
+                .then(Mono.just((long) participants.size()));
+    }
+
+    private Mono<Void> importRedisOnlyParticipants() {
+        return stringReactiveRedisTemplate.scan(ScanOptions.scanOptions().match("auction:*:users").count(warmUpBatch).build())
+                .flatMap(key -> {
+                    Long auctionId = Long.valueOf(key.substring("auction:".length(), key.length() - ":users".length()));
+                    return setOperations.members(key)
+                            .concatMap(userId -> auctionParticipantRepository.addParticipant(auctionId, Long.valueOf(userId)))
+                            .then()
+                            .onErrorResume(ex -> {
+                                log.warn(AuctionServiceConstants.LOG_FAIL_IMPORT_PARTICIPANTS, key, ex.getMessage());
+                                return Mono.empty();
+                            });
+                }, 16)
+                .then();
+    }
+
+    private Mono<Boolean> existsInDatabase(Long userId, Long auctionId) {
+        return auctionParticipantRepository.existsByAuctionIdAndUserId(auctionId, userId)
+                .onErrorMap(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_CHECK_IF_USER_SEE_AUCTION, userId, auctionId, ex.getMessage());
+                    return new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_TO_CHECK_USER);
+                });
+    }
+
+    private Mono<Set<Long>> findAccessibleInDatabase(Long userId, List<Long> auctionIds) {
+        return auctionParticipantRepository.findAuctionIdsByUserIdAndAuctionIds(userId, auctionIds.toArray(Long[]::new))
+                .collect(Collectors.toSet())
+                .onErrorMap(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_CHECK_AUCTION_ACCESS_BATCH, userId, auctionIds.size(), ex.getMessage());
+                    return new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_TO_CHECK_USER);
+                });
+    }
+
+    private Mono<Set<Long>> findParticipatingInDatabase(Long userId) {
+        return auctionParticipantRepository.findAuctionIdsByUserId(userId)
+                .collect(Collectors.toSet())
+                .onErrorMap(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_GET_USER_AUCTIONS, userId, ex.getMessage());
+                    return new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_TO_CHECK_USER);
+                });
+    }
+
+    private ByteBuffer toByteBuffer(Object value) {
+        return ByteBuffer.wrap(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
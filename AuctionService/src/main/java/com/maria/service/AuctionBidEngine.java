@@ -0,0 +1,21 @@
+package com.maria.service;
+
+import com.maria.core.entity.NewBitEvent;
+import com.maria.entity.Auction;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+public interface AuctionBidEngine {
+    Mono<Auction> placeBid(NewBitEvent newBitEvent);
+
+    Mono<Auction> peek(Long auctionId);
+
+    Mono<Void> finish(Long auctionId);
+
+    Mono<Void> evict(Long auctionId);
+
+    void runAfterFlush(Long auctionId, Runnable callback);
+
+    void listenToStateChanges(Function<Auction, Mono<Void>> persistedHandler, Function<Auction, Mono<Void>> reloadedHandler);
+}
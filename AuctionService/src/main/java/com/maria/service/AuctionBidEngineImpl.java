@@ -0,0 +1,260 @@
+package com.maria.service;
+
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.core.entity.NewBitEvent;
+import com.maria.entity.Auction;
+import com.maria.exception.AuctionNotExistException;
+import com.maria.exception.BitNotPossibleException;
+import com.maria.repository.AuctionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionBidEngineImpl implements AuctionBidEngine {
+    private final AuctionRepository auctionRepository;
+    private final Map<Long, AuctionOrderBook> books = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyAuctions = ConcurrentHashMap.newKeySet();
+    private final Map<Long, List<Runnable>> flushCallbacks = new ConcurrentHashMap<>();
+    private final Disposable.Composite disposables = Disposables.composite();
+    private Scheduler[] shards;
+    private volatile Function<Auction, Mono<Void>> persistedHandler = auction -> Mono.empty();
+    private volatile Function<Auction, Mono<Void>> reloadedHandler = auction -> Mono.empty();
+    @Value("${auction-engine.shards}")
+    private int shardCount;
+    @Value("${auction-engine.write-behind-interval-ms}")
+    private long writeBehindIntervalMs;
+    @Value("${auction-engine.book-idle-timeout-ms}")
+    private long bookIdleTimeoutMs;
+
+    @PostConstruct
+    public void initialize() {
+        shards = new Scheduler[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = Schedulers.newSingle("auction-engine-" + i);
+        }
+
+        disposables.add(
+                Flux.interval(Duration.ofMillis(writeBehindIntervalMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> flushDirtyAuctions().then(evictIdleBooks()))
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+        flushDirtyAuctions().block(Duration.ofSeconds(10));
+        for (Scheduler shard : shards) {
+            shard.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Auction> placeBid(NewBitEvent newBitEvent) {
+        Long auctionId = newBitEvent.getAuctionId();
+
+        return Mono.defer(() -> {
+                    AuctionOrderBook book = books.get(auctionId);
+                    return book != null ? Mono.just(book) : loadBook(auctionId);
+                })
+                .publishOn(shardFor(auctionId))
+                .flatMap(book -> books.get(auctionId) == book
+                        ? applyBid(book, newBitEvent, LocalDateTime.now())
+                        : placeBid(newBitEvent));
+    }
+
+    @Override
+    public Mono<Auction> peek(Long auctionId) {
+        return Mono.fromCallable(() -> {
+                    AuctionOrderBook book = books.get(auctionId);
+                    return book != null ? book.snapshot() : null;
+                })
+                .subscribeOn(shardFor(auctionId));
+    }
+
+    @Override
+    public Mono<Void> finish(Long auctionId) {
+        return Mono.fromRunnable(() -> {
+                    AuctionOrderBook book = books.get(auctionId);
+                    if (book != null) {
+                        book.getAuction().setFinished(true);
+                    }
+                })
+                .subscribeOn(shardFor(auctionId))
+                .then(Mono.<Void>create(sink -> runAfterFlush(auctionId, sink::success)));
+    }
+
+    @Override
+    public Mono<Void> evict(Long auctionId) {
+        return Mono.fromRunnable(() -> {
+                    books.remove(auctionId);
+                    dirtyAuctions.remove(auctionId);
+                })
+                .subscribeOn(shardFor(auctionId))
+                .then();
+    }
+
+    @Override
+    public void runAfterFlush(Long auctionId, Runnable callback) {
+        flushCallbacks.compute(auctionId, (id, callbacks) -> {
+            List<Runnable> pending = callbacks != null ? callbacks : new ArrayList<>();
+            pending.add(callback);
+            return pending;
+        });
+    }
+
+    @Override
+    public void listenToStateChanges(Function<Auction, Mono<Void>> persistedHandler, Function<Auction, Mono<Void>> reloadedHandler) {
+        this.persistedHandler = persistedHandler;
+        this.reloadedHandler = reloadedHandler;
+    }
+
+    private Mono<AuctionOrderBook> loadBook(Long auctionId) {
+        return auctionRepository.findById(auctionId)
+                .switchIfEmpty(Mono.error(new AuctionNotExistException(AuctionServiceConstants.EX_AUCTION_NOT_EXIST)))
+                .map(auction -> books.computeIfAbsent(auctionId, id -> new AuctionOrderBook(auction)));
+    }
+
+    private Mono<Auction> applyBid(AuctionOrderBook book, NewBitEvent newBitEvent, LocalDateTime bidTime) {
+        Auction auction = book.getAuction();
+        book.touch();
+
+        if (auction.getSellerId().equals(newBitEvent.getBidderId())) {
+            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_SELLER_BID_IN_HIS_AUCTION));
+        }
+        if (bidTime.isAfter(auction.getEndDate()) || bidTime.isBefore(auction.getStartDate()) || auction.isFinished()) {
+            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_UNAVAILABLE_AUCTION_FOR_BID));
+        }
+        BigDecimal currentPrice = auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getStartingPrice();
+        if (newBitEvent.getBidAmount().compareTo(currentPrice) <= 0) {
+            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_LOW_BID));
+        }
+
+        book.recordBid(newBitEvent, bidTime);
+        dirtyAuctions.add(auction.getAuctionId());
+
+        return Mono.just(book.snapshot());
+    }
+
+    private Mono<Void> flushDirtyAuctions() {
+        Map<Long, List<Runnable>> callbacks = new HashMap<>();
+        for (Long auctionId : new ArrayList<>(flushCallbacks.keySet())) {
+            List<Runnable> pending = flushCallbacks.remove(auctionId);
+            if (pending != null) {
+                callbacks.put(auctionId, pending);
+            }
+        }
+        Set<Long> auctionIds = new HashSet<>(dirtyAuctions);
+        auctionIds.addAll(callbacks.keySet());
+
+        return Flux.fromIterable(auctionIds)
+                .flatMap(auctionId -> flushAuction(auctionId)
+                        .then(Mono.fromRunnable(() -> callbacks.getOrDefault(auctionId, List.of()).forEach(Runnable::run)))
+                        .onErrorResume(ex -> {
+                            List<Runnable> heldBack = callbacks.get(auctionId);
+                            if (heldBack != null) {
+                                heldBack.forEach(callback -> runAfterFlush(auctionId, callback));
+                            }
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    private Mono<Void> flushAuction(Long auctionId) {
+        return Mono.fromCallable(() -> {
+                    AuctionOrderBook book = books.get(auctionId);
+                    return dirtyAuctions.remove(auctionId) && book != null ? book : null;
+                })
+                .subscribeOn(shardFor(auctionId))
+                .flatMap(this::persistSnapshot);
+    }
+
+    private Mono<Void> persistSnapshot(AuctionOrderBook book) {
+        Auction snapshot = book.snapshot();
+        return auctionRepository.updateHighestBid(snapshot.getAuctionId(), snapshot.getCurrentPrice(),
+                        snapshot.getBidderId(), book.getLastBidTime())
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(200)))
+                .doOnNext(saved -> log.info(AuctionServiceConstants.LOG_AUCTION_STATE_PERSISTED, saved.getAuctionId(), saved.getCurrentPrice()))
+                .flatMap(saved -> handleStateChange(persistedHandler, saved).thenReturn(saved))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn(AuctionServiceConstants.LOG_AUCTION_STATE_CONFLICT, snapshot.getAuctionId(), snapshot.getCurrentPrice());
+                    return reloadBook(book)
+                            .flatMap(reloaded -> handleStateChange(reloadedHandler, reloaded).thenReturn(reloaded));
+                }))
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_FAIL_PERSIST_AUCTION_STATE, snapshot.getAuctionId(), ex.getMessage());
+                    return Mono.fromRunnable(() -> {
+                                if (books.get(snapshot.getAuctionId()) == book) {
+                                    dirtyAuctions.add(snapshot.getAuctionId());
+                                }
+                            })
+                            .subscribeOn(shardFor(snapshot.getAuctionId()))
+                            .then(Mono.error(ex));
+                })
+                .then();
+    }
+
+    private Mono<Void> handleStateChange(Function<Auction, Mono<Void>> stateHandler, Auction auction) {
+        return stateHandler.apply(auction)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_FAIL_HANDLE_AUCTION_STATE_CHANGE, auction.getAuctionId(), ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Auction> reloadBook(AuctionOrderBook book) {
+        Long auctionId = book.getAuction().getAuctionId();
+
+        return auctionRepository.findById(auctionId)
+                .publishOn(shardFor(auctionId))
+                .doOnNext(auction -> {
+                    if (books.replace(auctionId, book, new AuctionOrderBook(auction))) {
+                        dirtyAuctions.remove(auctionId);
+                    }
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> books.remove(auctionId, book))
+                        .subscribeOn(shardFor(auctionId))
+                        .then(Mono.empty()));
+    }
+
+    private Mono<Void> evictIdleBooks() {
+        return Flux.fromIterable(new ArrayList<>(books.entrySet()))
+                .filter(entry -> entry.getValue().isIdle(bookIdleTimeoutMs))
+                .flatMap(entry -> Mono.fromRunnable(() -> {
+                            if (entry.getValue().isIdle(bookIdleTimeoutMs) && !dirtyAuctions.contains(entry.getKey())) {
+                                books.remove(entry.getKey(), entry.getValue());
+                            }
+                        })
+                        .subscribeOn(shardFor(entry.getKey())))
+                .then();
+    }
+
+    private Scheduler shardFor(Long auctionId) {
+        return shards[(int) Math.floorMod(auctionId, (long) shards.length)];
+    }
+}
@@ -0,0 +1,12 @@
+package com.maria.service;
+
+import com.maria.core.entity.AuctionDTO;
+import reactor.core.publisher.Mono;
+
+public interface AuctionCache {
+    Mono<AuctionDTO> get(Long auctionId);
+
+    Mono<Boolean> refresh(AuctionDTO auction);
+
+    Mono<Long> evict(Long auctionId);
+}
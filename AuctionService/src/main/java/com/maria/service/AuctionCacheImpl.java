@@ -0,0 +1,193 @@
+package com.maria.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.core.entity.AuctionDTO;
+import com.maria.exception.RedisOperationException;
+import com.maria.mapper.AuctionMapper;
+import com.maria.repository.AuctionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+public class AuctionCacheImpl implements AuctionCache {
+    private static final RedisScript<Long> REFRESH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/refresh-auction.lua"), Long.class);
+    private static final RedisScript<Long> EVICT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/evict-auction.lua"), Long.class);
+    private final AuctionRepository auctionRepository;
+    private final AuctionMapper auctionMapper;
+    private final AuctionBidEngine auctionBidEngine;
+    private final ReactiveValueOperations<String, AuctionDTO> valueOperationsAuction;
+    private final ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private AsyncCache<Long, AuctionDTO> localCache;
+    private Counter l1Hits;
+    private Counter l2Hits;
+    private Counter misses;
+    private Timer getTimer;
+    private Timer loadTimer;
+    @Value("${auction-cache.l1-max-size}")
+    private long l1MaxSize;
+    @Value("${auction-cache.l1-ttl-ms}")
+    private long l1TtlMs;
+    @Value("${auction-cache.l2-ttl-ms}")
+    private long l2TtlMs;
+    @Value("${auction-cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    @Autowired
+    public AuctionCacheImpl(
+            AuctionRepository auctionRepository,
+            AuctionMapper auctionMapper,
+            AuctionBidEngine auctionBidEngine,
+            ReactiveValueOperations<String, AuctionDTO> valueOperationsAuction,
+            ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.auctionMapper = auctionMapper;
+        this.auctionBidEngine = auctionBidEngine;
+        this.valueOperationsAuction = valueOperationsAuction;
+        this.stringReactiveRedisTemplate = stringReactiveRedisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofMillis(l1TtlMs))
+                .buildAsync();
+
+        l1Hits = Counter.builder("auction.cache.requests").tag("tier", "l1").tag("result", "hit").register(meterRegistry);
+        l2Hits = Counter.builder("auction.cache.requests").tag("tier", "l2").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("auction.cache.requests").tag("tier", "db").tag("result", "miss").register(meterRegistry);
+        getTimer = Timer.builder("auction.cache.get.latency").register(meterRegistry);
+        loadTimer = Timer.builder("auction.cache.load.latency").register(meterRegistry);
+        meterRegistry.gauge("auction.cache.l1.size", localCache, cache -> cache.synchronous().estimatedSize());
+
+        disposables.add(
+                stringReactiveRedisTemplate.listenToChannel(invalidationChannel)
+                        .doOnNext(message -> localCache.synchronous().invalidate(Long.valueOf(message.getMessage())))
+                        .doOnError(ex -> log.error(AuctionServiceConstants.LOG_ERROR_CACHE_INVALIDATION_LISTENER, ex.getMessage()))
+                        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+    }
+
+    @Override
+    public Mono<AuctionDTO> get(Long auctionId) {
+        long start = System.nanoTime();
+
+        return Mono.defer(() -> {
+                    CompletableFuture<AuctionDTO> cached = localCache.getIfPresent(auctionId);
+                    if (cached != null) {
+                        l1Hits.increment();
+                        return Mono.fromFuture(cached);
+                    }
+                    return Mono.fromFuture(localCache.get(auctionId, (id, executor) -> load(id).toFuture()));
+                })
+                .doFinally(signal -> getTimer.record(Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    @Override
+    public Mono<Boolean> refresh(AuctionDTO auction) {
+        Long auctionId = auction.getAuctionId();
+
+        return Mono.fromCallable(() -> redisObjectMapper.writeValueAsString(auction))
+                .doOnSubscribe(subscription -> localCache.synchronous().invalidate(auctionId))
+                .flatMap(value -> stringReactiveRedisTemplate.execute(REFRESH_SCRIPT,
+                                List.of("auctions:" + auctionId, AuctionServiceConstants.AUCTION_EXPIRY_INDEX),
+                                List.of(auctionId.toString(), value, String.valueOf(toExpiryScore(auction.getEndDate())), invalidationChannel))
+                        .next())
+                .map(updated -> updated == 1L)
+                .onErrorResume(ex -> {
+                    log.warn(AuctionServiceConstants.LOG_FAIL_REFRESH_AUCTION_IN_CACHE, auctionId, ex.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Long> evict(Long auctionId) {
+        return Mono.fromRunnable(() -> localCache.synchronous().invalidate(auctionId))
+                .then(stringReactiveRedisTemplate.execute(EVICT_SCRIPT,
+                                List.of("auctions:" + auctionId, AuctionServiceConstants.AUCTION_EXPIRY_INDEX),
+                                List.of(auctionId.toString(), invalidationChannel))
+                        .next())
+                .retry(3)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_REMOVING_AUCTION_FROM_CACHE, auctionId, ex.getMessage());
+                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_REMOVE_AUCTION_FROM_CACHE));
+                });
+    }
+
+    private Mono<AuctionDTO> load(Long auctionId) {
+        String key = "auctions:" + auctionId;
+        long start = System.nanoTime();
+
+        return valueOperationsAuction.getAndExpire(key, Duration.ofMillis(l2TtlMs))
+                .onErrorResume(SerializationException.class, ex -> {
+                    log.warn(AuctionServiceConstants.LOG_DROP_UNREADABLE_CACHED_AUCTION, auctionId, ex.getMessage());
+                    return stringReactiveRedisTemplate.delete(key)
+                            .onErrorResume(deleteEx -> Mono.just(0L))
+                            .then(Mono.empty());
+                })
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_GET_AUCTION_FROM_CACHE, auctionId, ex.getMessage());
+                    return Mono.empty();
+                })
+                .doOnNext(auction -> l2Hits.increment())
+                .switchIfEmpty(Mono.defer(() -> {
+                    misses.increment();
+                    return auctionBidEngine.peek(auctionId)
+                            .switchIfEmpty(Mono.defer(() -> auctionRepository.findById(auctionId)))
+                            .map(auctionMapper::toDto)
+                            .flatMap(auction -> valueOperationsAuction.setIfAbsent(key, auction, Duration.ofMillis(l2TtlMs))
+                                    .onErrorResume(ex -> {
+                                        log.warn(AuctionServiceConstants.LOG_FAIL_WRITE_AUCTION_TO_CACHE, auctionId, ex.getMessage());
+                                        return Mono.just(false);
+                                    })
+                                    .thenReturn(auction));
+                }))
+                .doFinally(signal -> loadTimer.record(Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private long toExpiryScore(LocalDateTime endDate) {
+        return endDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
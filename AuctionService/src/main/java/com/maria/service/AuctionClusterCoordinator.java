@@ -0,0 +1,7 @@
+package com.maria.service;
+
+public interface AuctionClusterCoordinator {
+    void start(Runnable onRebalance);
+
+    boolean owns(Long auctionId);
+}
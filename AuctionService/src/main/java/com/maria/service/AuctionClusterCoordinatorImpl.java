@@ -0,0 +1,82 @@
+package com.maria.service;
+
+import com.maria.constant.AuctionServiceConstants;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionClusterCoordinatorImpl implements AuctionClusterCoordinator {
+    private static final String MEMBERS_KEY = "auction-closers";
+    private final ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Disposable.Composite disposables = Disposables.composite();
+    private volatile List<String> members = List.of();
+    @Value("${auction-cluster.heartbeat-ms}")
+    private long heartbeatMs;
+    @Value("${auction-cluster.lease-ttl-ms}")
+    private long leaseTtlMs;
+
+    @Override
+    public void start(Runnable onRebalance) {
+        disposables.add(
+                Flux.interval(Duration.ZERO, Duration.ofMillis(heartbeatMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> renewLease())
+                        .subscribe(currentMembers -> {
+                            if (!currentMembers.equals(members)) {
+                                members = currentMembers;
+                                log.info(AuctionServiceConstants.LOG_CLUSTER_REBALANCED, currentMembers.size(), currentMembers.indexOf(instanceId));
+                                onRebalance.run();
+                            }
+                        }));
+    }
+
+    @Override
+    public boolean owns(Long auctionId) {
+        List<String> currentMembers = members;
+        int index = currentMembers.indexOf(instanceId);
+        if (index < 0) {
+            return true;
+        }
+        return Math.floorMod(auctionId, (long) currentMembers.size()) == index;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+        stringReactiveRedisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId)
+                .onErrorResume(ex -> Mono.empty())
+                .block(Duration.ofSeconds(2));
+    }
+
+    private Mono<List<String>> renewLease() {
+        long now = System.currentTimeMillis();
+        ReactiveZSetOperations<String, String> zSetOperations = stringReactiveRedisTemplate.opsForZSet();
+
+        return zSetOperations.add(MEMBERS_KEY, instanceId, now)
+                .then(zSetOperations.removeRangeByScore(MEMBERS_KEY, Range.closed(0d, (double) (now - leaseTtlMs))))
+                .thenMany(zSetOperations.rangeByScore(MEMBERS_KEY, Range.unbounded()))
+                .sort()
+                .collectList()
+                .onErrorResume(ex -> {
+                    log.warn(AuctionServiceConstants.LOG_FAIL_RENEW_CLUSTER_LEASE, ex.getMessage());
+                    return Mono.just(List.of());
+                });
+    }
+}
@@ -0,0 +1,14 @@
+package com.maria.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+public interface AuctionExpiryScheduler {
+    void start(Function<Long, Mono<Void>> expiryHandler);
+
+    Mono<Void> schedule(Long auctionId, LocalDateTime endDate);
+
+    Mono<Void> cancel(Long auctionId);
+}
@@ -0,0 +1,184 @@
+package com.maria.service;
+
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.entity.Auction;
+import com.maria.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionExpirySchedulerImpl implements AuctionExpiryScheduler {
+    private final AuctionRepository auctionRepository;
+    private final AuctionClusterCoordinator auctionClusterCoordinator;
+    private final NavigableMap<Long, Set<Long>> dueAuctions = new TreeMap<>();
+    private final Map<Long, Long> expiryByAuction = new HashMap<>();
+    private final Scheduler expiryScheduler = Schedulers.newSingle("auction-expiry");
+    private final Disposable.Composite disposables = Disposables.composite();
+    private final Disposable.Swap windowReload = Disposables.swap();
+    private LocalDateTime loadedUntil;
+    private LocalDateTime scheduledUntil;
+    @Value("${auction-expiry.horizon-minutes}")
+    private long horizonMinutes;
+    @Value("${auction-expiry.tick-ms}")
+    private long tickMs;
+    @Value("${auction-expiry.concurrency}")
+    private int concurrency;
+    @Value("${auction-expiry.retry-delay-ms}")
+    private long retryDelayMs;
+
+    @Override
+    public void start(Function<Long, Mono<Void>> expiryHandler) {
+        auctionClusterCoordinator.start(() -> windowReload.update(reloadExpiryWindow().subscribe()));
+
+        disposables.add(
+                Flux.interval(Duration.ZERO, Duration.ofMinutes(Math.max(1, horizonMinutes / 2)))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> loadExpiryWindow())
+                        .subscribe());
+
+        disposables.add(
+                Flux.interval(Duration.ofMillis(tickMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> fireDueAuctions(expiryHandler))
+                        .subscribe());
+    }
+
+    @Override
+    public Mono<Void> schedule(Long auctionId, LocalDateTime endDate) {
+        return Mono.fromRunnable(() -> {
+                    removeScheduled(auctionId);
+                    if (scheduledUntil != null && !endDate.isAfter(scheduledUntil) && auctionClusterCoordinator.owns(auctionId)) {
+                        addScheduled(auctionId, toEpochSecond(endDate));
+                    }
+                })
+                .subscribeOn(expiryScheduler)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> cancel(Long auctionId) {
+        return Mono.fromRunnable(() -> removeScheduled(auctionId))
+                .subscribeOn(expiryScheduler)
+                .then();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+        windowReload.dispose();
+        expiryScheduler.dispose();
+    }
+
+    private Mono<Void> reloadExpiryWindow() {
+        return Mono.fromRunnable(() -> {
+                    dueAuctions.clear();
+                    expiryByAuction.clear();
+                    loadedUntil = null;
+                    scheduledUntil = null;
+                })
+                .subscribeOn(expiryScheduler)
+                .then(loadExpiryWindow());
+    }
+
+    private Mono<Void> loadExpiryWindow() {
+        return Mono.defer(() -> {
+                    LocalDateTime from = loadedUntil;
+                    LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+                    scheduledUntil = until;
+                    Flux<Auction> auctions = from == null
+                            ? auctionRepository.findByFinishedIsFalseAndEndDateBefore(until)
+                            : auctionRepository.findByFinishedIsFalseAndEndDateBetween(from, until);
+                    return auctions
+                            .filter(auction -> auctionClusterCoordinator.owns(auction.getAuctionId()))
+                            .publishOn(expiryScheduler)
+                            .doOnNext(auction -> addScheduled(auction.getAuctionId(), toEpochSecond(auction.getEndDate())))
+                            .count()
+                            .doOnSuccess(count -> {
+                                loadedUntil = until;
+                                log.info(AuctionServiceConstants.LOG_EXPIRY_WINDOW_LOADED, count, until);
+                            });
+                })
+                .subscribeOn(expiryScheduler)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_FAIL_LOAD_EXPIRY_WINDOW, ex.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> fireDueAuctions(Function<Long, Mono<Void>> expiryHandler) {
+        return Mono.fromCallable(this::pollDueAuctions)
+                .subscribeOn(expiryScheduler)
+                .flatMapMany(Flux::fromIterable)
+                .filter(auctionClusterCoordinator::owns)
+                .flatMap(auctionId -> expiryHandler.apply(auctionId)
+                        .onErrorResume(ex -> {
+                            log.error(AuctionServiceConstants.LOG_FAIL_EXPIRE_AUCTION, auctionId, ex.getMessage());
+                            return Mono.fromRunnable(() -> addScheduled(auctionId,
+                                            toEpochSecond(LocalDateTime.now()) + Math.max(1, retryDelayMs / 1000)))
+                                    .subscribeOn(expiryScheduler)
+                                    .then();
+                        }), concurrency)
+                .then();
+    }
+
+    private List<Long> pollDueAuctions() {
+        long nowSecond = toEpochSecond(LocalDateTime.now());
+        List<Long> dueIds = new ArrayList<>();
+        Map.Entry<Long, Set<Long>> entry;
+        while ((entry = dueAuctions.firstEntry()) != null && entry.getKey() <= nowSecond) {
+            dueAuctions.pollFirstEntry();
+            for (Long auctionId : entry.getValue()) {
+                if (expiryByAuction.remove(auctionId, entry.getKey())) {
+                    dueIds.add(auctionId);
+                }
+            }
+        }
+        return dueIds;
+    }
+
+    private void addScheduled(Long auctionId, long expirySecond) {
+        removeScheduled(auctionId);
+        expiryByAuction.put(auctionId, expirySecond);
+        dueAuctions.computeIfAbsent(expirySecond, second -> new HashSet<>()).add(auctionId);
+    }
+
+    private void removeScheduled(Long auctionId) {
+        Long expirySecond = expiryByAuction.remove(auctionId);
+        if (expirySecond == null) {
+            return;
+        }
+        Set<Long> ids = dueAuctions.get(expirySecond);
+        if (ids != null && ids.remove(auctionId) && ids.isEmpty()) {
+            dueAuctions.remove(expirySecond);
+        }
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -0,0 +1,24 @@
+package com.maria.service;
+
+import com.maria.dto.AuctionPriceUpdate;
+import lombok.Getter;
+import reactor.core.publisher.Sinks;
+
+@Getter
+public class AuctionLiveChannel {
+    private final Sinks.Many<AuctionPriceUpdate> sink = Sinks.many().multicast().directBestEffort();
+    private final AuctionLiveShard shard;
+    private int watchers;
+
+    public AuctionLiveChannel(AuctionLiveShard shard) {
+        this.shard = shard;
+    }
+
+    public void addWatcher() {
+        watchers++;
+    }
+
+    public boolean removeWatcher() {
+        return --watchers == 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.maria.service;
+
+import com.maria.dto.AuctionPriceUpdate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AuctionLiveService {
+    Flux<AuctionPriceUpdate> watch(Long auctionId);
+
+    Mono<Void> publish(AuctionPriceUpdate update);
+}
@@ -0,0 +1,178 @@
+package com.maria.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.dto.AuctionPriceUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class AuctionLiveServiceImpl implements AuctionLiveService {
+    private final ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper redisObjectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, AuctionLiveChannel> channels = new ConcurrentHashMap<>();
+    private final Map<Integer, AuctionLiveShard> shards = new ConcurrentHashMap<>();
+    private final AtomicInteger watchers = new AtomicInteger();
+    private Counter droppedUpdates;
+    @Value("${auction-live.buffer-size}")
+    private int bufferSize;
+    @Value("${auction-live.emit-timeout-ms}")
+    private long emitTimeoutMs;
+    @Value("${auction-live.shards}")
+    private int shardCount;
+    @Value("${auction-live.channel-prefix}")
+    private String channelPrefix;
+
+    @Autowired
+    public AuctionLiveServiceImpl(
+            ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringReactiveRedisTemplate = stringReactiveRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisObjectMapper = redisObjectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        droppedUpdates = meterRegistry.counter("auction.live.dropped");
+        meterRegistry.gauge("auction.live.channels", channels, Map::size);
+        meterRegistry.gauge("auction.live.shards", shards, Map::size);
+        meterRegistry.gauge("auction.live.watchers", watchers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shards.values().forEach(shard -> shard.getSubscription().dispose());
+    }
+
+    @Override
+    public Flux<AuctionPriceUpdate> watch(Long auctionId) {
+        return Flux.defer(() -> {
+                    AuctionLiveChannel channel = channels.compute(auctionId, (id, existing) -> {
+                        AuctionLiveChannel current = existing != null ? existing : new AuctionLiveChannel(acquireShard(shardFor(id)));
+                        current.addWatcher();
+                        return current;
+                    });
+                    watchers.incrementAndGet();
+                    return channel.getShard().getReady().asMono()
+                            .thenMany(channel.getSink().asFlux())
+                            .doFinally(signal -> release(auctionId, channel));
+                })
+                .onBackpressureBuffer(bufferSize, dropped -> droppedUpdates.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    @Override
+    public Mono<Void> publish(AuctionPriceUpdate update) {
+        return Mono.fromCallable(() -> redisObjectMapper.writeValueAsString(update))
+                .flatMap(message -> stringReactiveRedisTemplate.convertAndSend(channelPrefix + shardFor(update.getAuctionId()), message))
+                .onErrorResume(ex -> {
+                    log.warn(AuctionServiceConstants.LOG_FAIL_PUBLISH_PRICE_UPDATE, update.getAuctionId(), ex.getMessage());
+                    deliver(update);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private AuctionLiveShard acquireShard(int shardId) {
+        return shards.compute(shardId, (id, existing) -> {
+            AuctionLiveShard current = existing != null ? existing : listen(id);
+            current.addChannel();
+            return current;
+        });
+    }
+
+    private AuctionLiveShard listen(int shardId) {
+        AuctionLiveShard shard = new AuctionLiveShard();
+        shard.setSubscription(listenerContainer.receiveLater(ChannelTopic.of(channelPrefix + shardId))
+                .doOnNext(messages -> shard.getReady().tryEmitEmpty())
+                .flatMapMany(Function.identity())
+                .doOnNext(message -> deliver(message.getMessage()))
+                .doOnError(ex -> log.error(AuctionServiceConstants.LOG_ERROR_LIVE_SHARD_LISTENER, shardId, ex.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe());
+        return shard;
+    }
+
+    private void releaseShard(int shardId) {
+        shards.computeIfPresent(shardId, (id, current) -> {
+            if (!current.removeChannel()) {
+                return current;
+            }
+            current.getSubscription().dispose();
+            return null;
+        });
+    }
+
+    private void release(Long auctionId, AuctionLiveChannel channel) {
+        watchers.decrementAndGet();
+        channels.computeIfPresent(auctionId, (id, current) -> {
+            if (current != channel || !current.removeWatcher()) {
+                return current;
+            }
+            releaseShard(shardFor(id));
+            return null;
+        });
+    }
+
+    private void deliver(String message) {
+        try {
+            deliver(redisObjectMapper.readValue(message, AuctionPriceUpdate.class));
+        } catch (JsonProcessingException ex) {
+            log.warn(AuctionServiceConstants.LOG_FAIL_READ_PRICE_UPDATE, ex.getMessage());
+        }
+    }
+
+    private void deliver(AuctionPriceUpdate update) {
+        Long auctionId = update.getAuctionId();
+        AuctionLiveChannel channel = update.isFinished() ? channels.remove(auctionId) : channels.get(auctionId);
+        if (channel == null) {
+            return;
+        }
+        if (update.isFinished()) {
+            releaseShard(shardFor(auctionId));
+        }
+
+        try {
+            Sinks.EmitFailureHandler failureHandler = Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(emitTimeoutMs));
+            channel.getSink().emitNext(update, failureHandler);
+            if (update.isFinished()) {
+                channel.getSink().emitComplete(failureHandler);
+            }
+        } catch (Sinks.EmissionException ex) {
+            log.warn(AuctionServiceConstants.LOG_FAIL_PUBLISH_PRICE_UPDATE, auctionId, ex.getReason());
+        }
+    }
+
+    private int shardFor(Long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) shardCount);
+    }
+}
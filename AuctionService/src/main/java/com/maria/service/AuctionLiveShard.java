@@ -0,0 +1,22 @@
+package com.maria.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+@Getter
+public class AuctionLiveShard {
+    private final Sinks.One<Void> ready = Sinks.one();
+    @Setter
+    private Disposable subscription;
+    private int channels;
+
+    public void addChannel() {
+        channels++;
+    }
+
+    public boolean removeChannel() {
+        return --channels == 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.maria.service;
+
+import com.maria.core.entity.NewBitEvent;
+import com.maria.entity.Auction;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AuctionOrderBook {
+    private final Auction auction;
+    private long lastAccess;
+    private LocalDateTime lastBidTime;
+
+    public AuctionOrderBook(Auction auction) {
+        this.auction = auction;
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    public void touch() {
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    public void recordBid(NewBitEvent newBitEvent, LocalDateTime bidTime) {
+        auction.setCurrentPrice(newBitEvent.getBidAmount());
+        auction.setBidderId(newBitEvent.getBidderId());
+        this.lastBidTime = bidTime;
+    }
+
+    public boolean isIdle(long idleTimeoutMs) {
+        return System.currentTimeMillis() - lastAccess > idleTimeoutMs;
+    }
+
+    public Auction snapshot() {
+        return auction.toBuilder().build();
+    }
+}
@@ -3,6 +3,9 @@ package com.maria.service;
 import com.maria.core.entity.AcceptanceEvent;
 import com.maria.core.entity.AuctionDTO;
 import com.maria.core.entity.NewBitEvent;
+import com.maria.dto.AuctionFeedPage;
+import com.maria.dto.AuctionFeedSort;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.dto.AuctionUpdateDTO;
 import com.maria.dto.CreateAuctionRequestDTO;
 import reactor.core.publisher.Flux;
@@ -15,9 +18,11 @@ public interface AuctionService {
 
     Mono<AuctionDTO> getAuction(Long auctionId, Long currentUserId);
 
+    Flux<AuctionPriceUpdate> watchAuction(Long auctionId, Long currentUserId);
+
     Flux<AuctionDTO> getAllActivePublicAuctions();
 
-    Mono<AuctionDTO> closeAuction(Long auctionId, Long currentUserId);
+    Mono<Void> closeAuction(Long auctionId, Long currentUserId);
 
     Mono<Void> deleteAuction(Long auctionId, Long currentUserId);
 
@@ -25,6 +30,8 @@ public interface AuctionService {
 
     Flux<AuctionDTO> getAllActiveAuctionsForUser(Long userId);
 
+    Mono<AuctionFeedPage> getAuctionFeed(Long userId, AuctionFeedSort sort, String cursor, int limit);
+
     Flux<AuctionDTO> getAllSellersAuctions(Long userId);
 
     Mono<Void> sendInvitation(Long auctionId, Long sellerId, List<String> userEmails);
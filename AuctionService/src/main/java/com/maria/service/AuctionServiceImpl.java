@@ -2,6 +2,9 @@ package com.maria.service;
 
 import com.maria.constant.AuctionServiceConstants;
 import com.maria.core.entity.*;
+import com.maria.dto.AuctionFeedPage;
+import com.maria.dto.AuctionFeedSort;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.dto.AuctionUpdateDTO;
 import com.maria.dto.CreateAuctionRequestDTO;
 import com.maria.exception.*;
@@ -16,12 +19,15 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
@@ -29,9 +35,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,69 +49,77 @@ import java.util.stream.Collectors;
 public class AuctionServiceImpl implements AuctionService {
     private final AuctionRepository auctionRepository;
     private final AuctionMapper auctionMapper;
-    private final ReactiveSetOperations<String, String> setOperations;
-    private final ReactiveRedisTemplate<String, AuctionDTO> auctionRedisTemplate;
+    private final ReactiveZSetOperations<String, String> zSetOperations;
     private final ReactiveValueOperations<String, AuctionDTO> valueOperationsAuction;
     private final WebClient webClientItem;
     private final WebClient webClientUser;
     private final AuctionKafkaService auctionKafkaService;
+    private final AuctionBidEngine auctionBidEngine;
+    private final AuctionExpiryScheduler auctionExpiryScheduler;
+    private final AuctionCache auctionCache;
+    private final AuctionAccessService auctionAccessService;
+    private final AuctionLiveService auctionLiveService;
+    private final TransactionalOperator transactionalOperator;
     private final Disposable.Composite disposables = Disposables.composite();
+    private final Set<Long> pendingCacheRefresh = ConcurrentHashMap.newKeySet();
     @Value("${uri.get-seller}")
     private String getSellerUri;
     @Value("${uri.find-user}")
     private String findUserUri;
+    @Value("${auction-cache.expiry-sweep-batch}")
+    private int expirySweepBatch;
+    @Value("${auction-access.batch-size}")
+    private int accessBatchSize;
 
     @Autowired
     public AuctionServiceImpl(
             AuctionRepository auctionRepository,
             AuctionMapper auctionMapper,
-            ReactiveSetOperations<String, String> setOperations,
-            ReactiveRedisTemplate<String, AuctionDTO> auctionRedisTemplate,
+            ReactiveZSetOperations<String, String> zSetOperations,
             ReactiveValueOperations<String, AuctionDTO> valueOperationsAuction,
             @Qualifier("webClientItem") WebClient webClientItem,
             @Qualifier("webClientUser") WebClient webClientUser,
-            AuctionKafkaService auctionKafkaService
+            AuctionKafkaService auctionKafkaService,
+            AuctionBidEngine auctionBidEngine,
+            AuctionExpiryScheduler auctionExpiryScheduler,
+            AuctionCache auctionCache,
+            AuctionAccessService auctionAccessService,
+            AuctionLiveService auctionLiveService,
+            TransactionalOperator transactionalOperator
     ) {
         this.auctionRepository = auctionRepository;
         this.auctionMapper = auctionMapper;
-        this.setOperations = setOperations;
-        this.auctionRedisTemplate = auctionRedisTemplate;
+        this.zSetOperations = zSetOperations;
         this.valueOperationsAuction = valueOperationsAuction;
         this.webClientItem = webClientItem;
         this.webClientUser = webClientUser;
         this.auctionKafkaService = auctionKafkaService;
+        this.auctionBidEngine = auctionBidEngine;
+        this.auctionExpiryScheduler = auctionExpiryScheduler;
+        this.auctionCache = auctionCache;
+        this.auctionAccessService = auctionAccessService;
+        this.auctionLiveService = auctionLiveService;
+        this.transactionalOperator = transactionalOperator;
     }
 
     @PostConstruct
     public void initialize() {
-        auctionKafkaService.listenToBids(this::updateHighestBid);
+        auctionKafkaService.listenToBids(this::updateHighestBid, this::finishAuction);
+        auctionBidEngine.listenToStateChanges(this::publishPersistedBid, this::publishCorrectedAuction);
         auctionKafkaService.listenToAcceptances(this::processAcceptanceEvent);
     }
 
     @Override
     public Mono<Void> updateHighestBid(NewBitEvent newBitEvent) {
-        return auctionRepository.findById(newBitEvent.getAuctionId())
-                .switchIfEmpty(Mono.error(new AuctionNotExistException(AuctionServiceConstants.EX_AUCTION_NOT_EXIST)))
-                .flatMap(auction -> validateBid(auction, newBitEvent, LocalDateTime.now())
-                        .doOnSuccess(validatedAuction -> log.info(AuctionServiceConstants.LOG_BID_VALID, validatedAuction.getAuctionId())))
-                .flatMap(auction -> {
-                    auction.setBidderId(newBitEvent.getBidderId());
-                    auction.setCurrentPrice(newBitEvent.getBidAmount());
-                    return auctionRepository.save(auction)
-                            .doOnSuccess(savedAuction -> log.info(AuctionServiceConstants.LOG_AUCTION_SAVED, savedAuction.getAuctionId()))
-                            .flatMap(updatedAuction -> {
-                                String key = "auctions:" + updatedAuction.getAuctionId();
-
-                                return auctionRedisTemplate.hasKey(key)
-                                        .flatMap(hasKey -> {
-                                            if (hasKey) {
-                                                return valueOperationsAuction.set(key, auctionMapper.toDto(updatedAuction))
-                                                        .then(auctionKafkaService.sendNewBidNotificationEvent(updatedAuction));
-                                            }
-                                            return auctionKafkaService.sendNewBidNotificationEvent(updatedAuction);
-                                        });
-                            });
-                })
+        return auctionBidEngine.placeBid(newBitEvent)
+                .doOnSuccess(acceptedAuction -> log.info(AuctionServiceConstants.LOG_BID_VALID, acceptedAuction.getAuctionId()))
+                .flatMap(acceptedAuction -> auctionLiveService.publish(auctionMapper.toPriceUpdate(acceptedAuction))
+                        .thenReturn(acceptedAuction))
+                .flatMap(acceptedAuction -> auctionKafkaService.sendAuctionStateEvent(acceptedAuction)
+                        .thenReturn(acceptedAuction))
+                .flatMap(updatedAuction -> auctionCache.refresh(auctionMapper.toDto(updatedAuction))
+                        .doOnSuccess(refreshed -> refreshCacheAfterFlush(updatedAuction.getAuctionId())))
+                .then()
                 .onErrorMap(ex -> {
                     log.warn(AuctionServiceConstants.LOG_ERROR_UPDATING_AUCTION, ex.getMessage());
                     if (ex instanceof BitNotPossibleException || ex instanceof AuctionNotExistException) {
@@ -112,19 +130,6 @@ public class AuctionServiceImpl implements AuctionService {
                 });
     }
 
-    private Mono<Auction> validateBid(Auction auction, NewBitEvent newBitEvent, LocalDateTime bidTime) {
-        if (auction.getSellerId().equals(newBitEvent.getBidderId())) {
-            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_SELLER_BID_IN_HIS_AUCTION));
-        }
-        if (bidTime.isAfter(auction.getEndDate()) || bidTime.isBefore(auction.getStartDate()) || auction.isFinished()) {
-            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_UNAVAILABLE_AUCTION_FOR_BID));
-        }
-        if (newBitEvent.getBidAmount().compareTo(auction.getCurrentPrice()) <= 0) {
-            return Mono.error(new BitNotPossibleException(AuctionServiceConstants.EX_LOW_BID));
-        }
-        return Mono.just(auction);
-    }
-
     @Override
     public Mono<AuctionDTO> createAuction(CreateAuctionRequestDTO auctionRequest, Long currentUserId) {
         return auctionRepository.findByItemId(auctionRequest.getItemId())
@@ -170,6 +175,10 @@ public class AuctionServiceImpl implements AuctionService {
 
         return auctionRepository.save(newAuction)
                 .flatMap(auction -> auctionKafkaService.sendAuctionCreatedEvent(auction)
+                        .thenReturn(auction))
+                .as(transactionalOperator::transactional)
+                .flatMap(auction -> auctionKafkaService.sendAuctionStateEvent(auction)
+                        .then(auctionExpiryScheduler.schedule(auction.getAuctionId(), auction.getEndDate()))
                         .thenReturn(auctionMapper.toDto(auction)))
                 .doOnSuccess(savedAuctionDTO -> log.info(AuctionServiceConstants.LOG_AUCTION_SAVED, savedAuctionDTO.getAuctionId()))
                 .onErrorResume(ex -> {
@@ -234,19 +243,14 @@ public class AuctionServiceImpl implements AuctionService {
                     if (!acceptanceEvent.isAcceptance()) {
                         return Mono.empty();
                     }
-                    return saveUserForAuction(auction.getAuctionId(), acceptanceEvent.getUserId())
-                            .flatMap(result -> {
-                                if (result == 0) {
-                                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_REDIS_ERROR));
-                                }
-                                log.info(AuctionServiceConstants.LOG_USER_ADDED_TO_AUCTION);
-                                return Mono.empty().then();
-                            });
+                    return auctionAccessService.addParticipant(auction.getAuctionId(), acceptanceEvent.getUserId())
+                            .doOnNext(added -> log.info(AuctionServiceConstants.LOG_USER_ADDED_TO_AUCTION))
+                            .then();
                 })
                 .onErrorMap(ex -> {
                     log.warn(AuctionServiceConstants.LOG_ACCEPTANCE_ERROR, ex.getMessage());
                     if (ex instanceof AuctionNotExistException || ex instanceof AuctionNotAvailableException
-                            || ex instanceof RedisOperationException) {
+                            || ex instanceof DatabaseOperationException) {
                         return ex;
                     }
                     log.warn(AuctionServiceConstants.LOG_UNEXPECTED_ERROR, ex.getMessage());
@@ -254,18 +258,41 @@ public class AuctionServiceImpl implements AuctionService {
                 });
     }
 
+    @Override
+    public Mono<AuctionFeedPage> getAuctionFeed(Long userId, AuctionFeedSort sort, String cursor, int limit) {
+        return auctionAccessService.findParticipatingAuctions(userId)
+                .flatMap(privateAuctionIds -> findFeedPage(userId, privateAuctionIds.toArray(Long[]::new), sort, cursor, limit)
+                        .map(auctionMapper::toDto)
+                        .collectList())
+                .map(auctions -> AuctionFeedPage.builder()
+                        .auctions(auctions)
+                        .nextCursor(auctions.size() < limit ? null : encodeFeedCursor(sort, auctions.get(auctions.size() - 1)))
+                        .build())
+                .onErrorMap(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_GET_AUCTION_FEED, userId, ex.getMessage());
+                    if (ex instanceof DataForAuctionIsNotValid) {
+                        return ex;
+                    }
+                    return new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_GET_AUCTION_FEED);
+                });
+    }
+
     @Override
     public Flux<AuctionDTO> getAllActivePrivateAuctions(Long userId) {
-        return getAllActiveAuctionsForUser(userId)
-                .filter(auction -> !auction.isPublicAccess());
+        return auctionRepository.findByFinishedIsFalseAndPublicAccessIsFalse()
+                .filter(auction -> !auction.getSellerId().equals(userId))
+                .buffer(accessBatchSize)
+                .concatMap(auctions -> filterAccessibleAuctions(userId, auctions))
+                .map(auctionMapper::toDto)
+                .onErrorResume(ex -> {
+                    log.error(AuctionServiceConstants.LOG_ERROR_GET_ACTIVE_AUCTIONS, ex.getMessage());
+                    return Flux.empty();
+                });
     }
 
     @Override
     public Mono<AuctionDTO> getAuction(Long auctionId, Long currentUserId) {
-        String key = "auctions:" + auctionId;
-
-        return auctionRedisTemplate.hasKey(key)
-                .flatMap(exists -> exists ? getCacheAuction(auctionId) : auctionRepository.findById(auctionId).map(auctionMapper::toDto))
+        return auctionCache.get(auctionId)
                 .flatMap(auction -> {
                     if (auction.isPublicAccess() || auction.getSellerId().equals(currentUserId)) {
                         return Mono.just(auction);
@@ -283,6 +310,13 @@ public class AuctionServiceImpl implements AuctionService {
                 .switchIfEmpty(Mono.error(new AuctionNotExistException(AuctionServiceConstants.EX_AUCTION_NOT_EXIST)));
     }
 
+    @Override
+    public Flux<AuctionPriceUpdate> watchAuction(Long auctionId, Long currentUserId) {
+        return getAuction(auctionId, currentUserId)
+                .flatMapMany(auction -> auctionLiveService.watch(auctionId)
+                        .startWith(auctionMapper.toPriceUpdate(auction)));
+    }
+
     @Override
     public Mono<AuctionDTO> updateAuction(Long currentUserId, Long auctionId, AuctionUpdateDTO auctionUpdateDTO) {
         return auctionAvailableToInteraction(auctionId, currentUserId)
@@ -308,18 +342,12 @@ public class AuctionServiceImpl implements AuctionService {
                         auction.setPublicAccess(auctionUpdateDTO.getPublicAccess());
                     }
                     return auctionRepository.save(auction)
-                            .flatMap(updatedAuction -> {
-                                String key = "auctions:" + updatedAuction.getAuctionId();
-
-                                return auctionRedisTemplate.hasKey(key)
-                                        .flatMap(hasKey -> {
-                                            if (hasKey) {
-                                                return valueOperationsAuction.set(key, auctionMapper.toDto(updatedAuction))
-                                                        .thenReturn(updatedAuction);
-                                            }
-                                            return Mono.just(updatedAuction);
-                                        });
-                            })
+                            .flatMap(updatedAuction -> auctionBidEngine.evict(updatedAuction.getAuctionId())
+                                    .then(auctionKafkaService.sendAuctionStateEvent(updatedAuction))
+                                    .then(auctionExpiryScheduler.schedule(updatedAuction.getAuctionId(), updatedAuction.getEndDate()))
+                                    .thenReturn(updatedAuction))
+                            .flatMap(updatedAuction -> auctionCache.refresh(auctionMapper.toDto(updatedAuction))
+                                    .thenReturn(updatedAuction))
                             .map(auctionMapper::toDto)
                             .doOnSuccess(savedAuctionDTO -> log.info(AuctionServiceConstants.LOG_AUCTION_SAVED, savedAuctionDTO.getAuctionId()))
                             .onErrorMap(ex -> new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_SAVE_AUCTION));
@@ -373,15 +401,8 @@ public class AuctionServiceImpl implements AuctionService {
     public Flux<AuctionDTO> getAllActiveAuctionsForUser(Long userId) {
         return auctionRepository.findByFinishedIsFalse()
                 .filter(auction -> !auction.getSellerId().equals(userId))
-                .flatMap(auction -> {
-                    if (auction.getPublicAccess()) {
-                        return Mono.just(auction);
-                    } else {
-                        return canUserSeeAuction(userId, auction.getAuctionId())
-                                .filter(Boolean::booleanValue)
-                                .map(access -> auction);
-                    }
-                })
+                .buffer(accessBatchSize)
+                .concatMap(auctions -> filterAccessibleAuctions(userId, auctions))
                 .map(auctionMapper::toDto)
                 .onErrorResume(ex -> {
                     log.error(AuctionServiceConstants.LOG_ERROR_GET_ACTIVE_AUCTIONS, ex.getMessage());
@@ -390,11 +411,11 @@ public class AuctionServiceImpl implements AuctionService {
     }
 
     @Override
-    public Mono<AuctionDTO> closeAuction(Long auctionId, Long currentUserId) {
+    public Mono<Void> closeAuction(Long auctionId, Long currentUserId) {
         return auctionAvailableToInteraction(auctionId, currentUserId)
-                .flatMap(auction -> setAuctionFinished(auctionId)
-                        .map(auctionMapper::toDto))
-                .doOnSuccess(auctionDTO -> log.info(AuctionServiceConstants.LOG_AUCTION_CLOSED, auctionDTO.getAuctionId()))
+                .flatMap(auction -> auctionExpiryScheduler.cancel(auctionId)
+                        .then(auctionKafkaService.sendAuctionCloseEvent(auctionId, false)))
+                .doOnSuccess(success -> log.info(AuctionServiceConstants.LOG_AUCTION_CLOSED, auctionId))
                 .onErrorMap(ex -> {
                     log.warn(AuctionServiceConstants.LOG_FAIL_CLOSE_AUCTION, auctionId, ex.getMessage());
                     if (ex instanceof AuctionNotExistException || ex instanceof AuctionNotAvailableException
@@ -413,11 +434,9 @@ public class AuctionServiceImpl implements AuctionService {
                     if (!auction.getSellerId().equals(currentUserId)) {
                         return Mono.error(new AuctionNotAvailableException(AuctionServiceConstants.EX_AUCTION_NOT_AVAILABLE));
                     }
-                    return setAuctionFinished(auctionId)
-                            .then(auctionKafkaService.sendAuctionRemovedEvent(auction))
-                            .then(auctionRepository.delete(auction))
-                            .onErrorResume(ex -> Mono.error(new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_DELETE_AUCTION)))
-                            .doOnSuccess(success -> log.info(AuctionServiceConstants.LOG_AUCTION_DELETED));
+                    return auctionExpiryScheduler.cancel(auctionId)
+                            .then(auctionKafkaService.sendAuctionDeleteEvent(auctionId))
+                            .onErrorResume(ex -> Mono.error(new DatabaseOperationException(AuctionServiceConstants.EX_FAIL_DELETE_AUCTION)));
                 })
                 .onErrorMap(ex -> {
                     log.warn(AuctionServiceConstants.LOG_FAIL_DELETE_AUCTION, auctionId, ex.getMessage());
@@ -432,27 +451,28 @@ public class AuctionServiceImpl implements AuctionService {
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         scheduleAuctionCaching();
-        scheduleAuctionSetFinished();
+        publishActiveAuctionStates();
+        auctionExpiryScheduler.start(auctionId -> auctionKafkaService.sendAuctionCloseEvent(auctionId, true));
     }
 
     public void scheduleAuctionCaching() {
         disposables.add(
                 Flux.interval(Duration.ofMinutes(15))
-                        .flatMap(tick -> cacheAuctionsEndingSoon())
+                        .flatMap(tick -> sweepExpiredCachedAuctions().then(cacheAuctionsEndingSoon()))
                         .subscribeOn(Schedulers.boundedElastic())
                         .doOnNext(success -> log.info(AuctionServiceConstants.LOG_AUCTION_CACHED))
                         .doOnError(error -> log.error(AuctionServiceConstants.LOG_ERROR_CACHING_AUCTION, error.getMessage()))
                         .subscribe());
     }
 
-    public void scheduleAuctionSetFinished() {
+    public void publishActiveAuctionStates() {
         disposables.add(
-                Flux.interval(Duration.ofMinutes(60))
-                        .flatMap(tick -> findExpiredAuctions())
+                auctionRepository.findByFinishedIsFalse()
+                        .flatMap(auction -> auctionKafkaService.sendAuctionStateEvent(auction).thenReturn(auction))
+                        .count()
                         .subscribeOn(Schedulers.boundedElastic())
-                        .doOnNext(success -> log.info(AuctionServiceConstants.LOG_EXPIRED_AUCTIONS_PROCESSED))
-                        .doOnError(error -> log.error(AuctionServiceConstants.LOG_ERROR_PROCESS_EXPIRED_AUCTIONS, error))
-                        .subscribe());
+                        .subscribe(published -> log.info(AuctionServiceConstants.LOG_AUCTION_STATES_PUBLISHED, published),
+                                error -> log.error(AuctionServiceConstants.LOG_ERROR_PUBLISH_AUCTION_STATES, error.getMessage())));
     }
 
     @PreDestroy
@@ -477,7 +497,11 @@ public class AuctionServiceImpl implements AuctionService {
                                     auction -> "auctions:" + auction.getAuctionId(),
                                     auctionMapper::toDto
                             ));
-                    return auctionRedisTemplate.opsForValue().multiSet(auctionMap);
+                    List<ZSetOperations.TypedTuple<String>> expiryIndex = auctions.stream()
+                            .map(auction -> ZSetOperations.TypedTuple.of(auction.getAuctionId().toString(), toExpiryScore(auction.getEndDate())))
+                            .toList();
+                    return valueOperationsAuction.multiSet(auctionMap)
+                            .then(zSetOperations.addAll(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, expiryIndex));
                 })
                 .then()
                 .onErrorResume(ex -> {
@@ -486,117 +510,169 @@ public class AuctionServiceImpl implements AuctionService {
                 });
     }
 
-    private Mono<AuctionDTO> getCacheAuction(Long auctionId) {
-        String key = "auctions:" + auctionId;
-        return valueOperationsAuction.get(key)
-                .retry(3)
+    private Mono<Void> sweepExpiredCachedAuctions() {
+        Range<Double> expired = Range.closed(0d, toExpiryScore(LocalDateTime.now()));
+
+        return zSetOperations.rangeByScore(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, expired, Limit.limit().count(expirySweepBatch))
+                .collectList()
+                .flatMap(auctionIds -> removeExpiredCachedAuctions(auctionIds).thenReturn(auctionIds.size()))
+                .repeat()
+                .takeUntil(swept -> swept < expirySweepBatch)
+                .then()
+                .doOnSuccess(success -> log.info(AuctionServiceConstants.LOG_EXPIRED_CACHE_SWEPT))
                 .onErrorResume(ex -> {
-                    log.error(AuctionServiceConstants.LOG_ERROR_GET_AUCTION_FROM_CACHE, auctionId, ex.getMessage());
-                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_GET_AUCTION_IN_CACHE));
+                    log.error(AuctionServiceConstants.LOG_ERROR_SWEEP_EXPIRED_CACHE, ex.getMessage());
+                    return Mono.empty();
                 });
     }
 
-    private Mono<Void> findExpiredAuctions() {
-        return auctionRedisTemplate.keys("auctions:*")
-                .flatMap(key -> valueOperationsAuction.get(key)
-                        .switchIfEmpty(Mono.empty())
-                )
-                .filter(auctionDTO -> auctionDTO.getEndDate().isBefore(LocalDateTime.now()))
-                .flatMap(auctionDTO -> setAuctionFinished(auctionDTO.getAuctionId()))
-                .onErrorContinue((error, obj) -> log.error(AuctionServiceConstants.LOG_ERROR_SETTING_AUCTION_FINISHED + error.getMessage()))
+    private Mono<Void> removeExpiredCachedAuctions(List<String> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Mono.empty();
+        }
+        List<String> keys = auctionIds.stream()
+                .map(auctionId -> "auctions:" + auctionId)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        return valueOperationsAuction.multiGet(keys)
+                .flatMapMany(cachedAuctions -> Flux.range(0, auctionIds.size())
+                        .flatMap(i -> {
+                            String member = auctionIds.get(i);
+                            AuctionDTO cachedAuction = cachedAuctions.get(i);
+                            if (cachedAuction != null && cachedAuction.getEndDate().isAfter(now)) {
+                                return zSetOperations.add(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, member, toExpiryScore(cachedAuction.getEndDate()))
+                                        .then();
+                            }
+                            Mono<Void> unindex = zSetOperations.remove(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, member).then();
+                            if (cachedAuction == null) {
+                                return unindex;
+                            }
+                            Long auctionId = Long.valueOf(member);
+                            return auctionExpiryScheduler.schedule(auctionId, cachedAuction.getEndDate())
+                                    .then(auctionCache.evict(auctionId))
+                                    .then()
+                                    .onErrorResume(ex -> {
+                                        log.error(AuctionServiceConstants.LOG_FAIL_EXPIRE_AUCTION, auctionId, ex.getMessage());
+                                        return unindex;
+                                    });
+                        }))
                 .then();
     }
 
-    private Mono<Void> cacheAuctionEndingSoon() {
-        LocalDateTime nowDate = LocalDateTime.now();
-        LocalDateTime oneHourLater = nowDate.plusHours(1);
+    private void refreshCacheAfterFlush(Long auctionId) {
+        if (pendingCacheRefresh.add(auctionId)) {
+            auctionBidEngine.runAfterFlush(auctionId, () -> {
+                pendingCacheRefresh.remove(auctionId);
+                auctionBidEngine.peek(auctionId)
+                        .map(auctionMapper::toDto)
+                        .flatMap(auctionCache::refresh)
+                        .subscribe();
+            });
+        }
+    }
 
-        return auctionRepository.findByEndDateBetween(nowDate, oneHourLater)
-                .filter(auction -> !auction.isFinished())
-                .collectList()
-                .flatMap(auctions -> {
-                    if (auctions.isEmpty()) {
-                        log.info(AuctionServiceConstants.LOG_NO_AUCTIONS_ENDING_SOON);
-                        return Mono.empty();
+    private double toExpiryScore(LocalDateTime endDate) {
+        return endDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Mono<Void> finishAuction(AuctionCloseEvent closeEvent) {
+        Long auctionId = closeEvent.getAuctionId();
+        if (closeEvent.isDeleted()) {
+            return removeAuction(auctionId);
+        }
+
+        return setAuctionFinished(auctionId, closeEvent.isExpired())
+                .doOnNext(auction -> {
+                    if (closeEvent.isExpired()) {
+                        log.info(AuctionServiceConstants.LOG_EXPIRED_AUCTION_FINISHED, auctionId);
                     }
-                    Map<String, AuctionDTO> auctionMap = auctions.stream().
-                            collect(Collectors.toMap(
-                                    auction -> "auctions:" + auction.getAuctionId(),
-                                    auctionMapper::toDto
-                            ));
-                    return auctionRedisTemplate.opsForValue().multiSet(auctionMap);
                 })
-                .then()
-                .onErrorResume(ex -> {
-                    log.error(AuctionServiceConstants.LOG_ERROR_CACHING_AUCTION, ex.getMessage());
-                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_ERROR_CACHING_AUCTIONS));
-                });
+                .switchIfEmpty(auctionBidEngine.evict(auctionId).then(Mono.empty()))
+                .then();
     }
 
-    private Mono<Auction> setAuctionFinished(Long auctionId) {
-        return auctionRepository.findById(auctionId)
-                .flatMap(auction -> {
-                    auction.setFinished(true);
-
-                    return auctionRepository.save(auction)
-                            .doOnSuccess(savedAuction -> log.info(AuctionServiceConstants.LOG_AUCTION_SET_FINISHED, savedAuction.getAuctionId()))
-                            .flatMap(updatedAuction ->
-                                    auctionKafkaService.sendAuctionFinishedNotificationEvent(updatedAuction)
-                                            .onErrorResume(ex -> {
-                                                log.error(AuctionServiceConstants.LOG_FAIL_SEND_NOTIFICATION, updatedAuction.getAuctionId(), ex.getMessage());
-                                                return Mono.empty();
-                                            })
-                                            .thenReturn(updatedAuction))
-                            .flatMap(this::handleCacheRemoval);
-                });
+    private Mono<Void> removeAuction(Long auctionId) {
+        return setAuctionFinished(auctionId, false)
+                .then(auctionRepository.findById(auctionId))
+                .flatMap(auction -> auctionKafkaService.sendAuctionRemovedEvent(auction)
+                        .then(auctionRepository.delete(auction)))
+                .then(auctionBidEngine.evict(auctionId))
+                .then(auctionKafkaService.sendAuctionStateRemovedEvent(auctionId))
+                .then(auctionExpiryScheduler.cancel(auctionId))
+                .then(auctionCache.evict(auctionId))
+                .doOnSuccess(success -> log.info(AuctionServiceConstants.LOG_AUCTION_DELETED));
+    }
+
+    private Mono<Auction> setAuctionFinished(Long auctionId, boolean expired) {
+        return auctionBidEngine.finish(auctionId)
+                .then(Mono.defer(() -> expired
+                        ? auctionRepository.setFinishedIfEnded(auctionId, LocalDateTime.now())
+                        : auctionRepository.setFinished(auctionId)))
+                .doOnNext(savedAuction -> log.info(AuctionServiceConstants.LOG_AUCTION_SET_FINISHED, savedAuction.getAuctionId()))
+                .flatMap(finishedAuction -> auctionLiveService.publish(auctionMapper.toPriceUpdate(finishedAuction))
+                        .thenReturn(finishedAuction))
+                .flatMap(finishedAuction -> auctionKafkaService.sendAuctionStateEvent(finishedAuction)
+                        .thenReturn(finishedAuction))
+                .flatMap(updatedAuction ->
+                        auctionKafkaService.sendAuctionFinishedNotificationEvent(updatedAuction)
+                                .onErrorResume(ex -> {
+                                    log.error(AuctionServiceConstants.LOG_FAIL_SEND_NOTIFICATION, updatedAuction.getAuctionId(), ex.getMessage());
+                                    return Mono.empty();
+                                })
+                                .thenReturn(updatedAuction))
+                .flatMap(this::handleCacheRemoval);
     }
 
     private Mono<Auction> handleCacheRemoval(Auction auction) {
-        String key = "auctions:" + auction.getAuctionId();
-        return auctionRedisTemplate.hasKey(key)
-                .flatMap(exist -> {
-                    if (exist) {
-                        return removeAuctionFromCache(auction.getAuctionId())
-                                .flatMap(result -> {
-                                    if (result == 0) {
-                                        log.error(AuctionServiceConstants.LOG_FAIL_REMOVE_AUCTION_FROM_CACHE, auction.getAuctionId());
-                                        return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_REMOVE_AUCTION_FROM_CACHE));
-                                    }
-                                    return Mono.just(auction);
-                                });
-                    }
-                    return Mono.just(auction);
-                });
+        return auctionCache.evict(auction.getAuctionId())
+                .thenReturn(auction);
+    }
+
+    private Flux<Auction> findFeedPage(Long userId, Long[] privateAuctionIds, AuctionFeedSort sort, String cursor, int limit) {
+        try {
+            String[] position = cursor == null || cursor.isBlank()
+                    ? null
+                    : new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return switch (sort) {
+                case ENDING_SOON -> auctionRepository.findFeedEndingSoon(userId, privateAuctionIds,
+                        position == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : LocalDateTime.parse(position[0]),
+                        position == null ? 0L : Long.parseLong(position[1]), limit);
+                case NEWEST -> auctionRepository.findFeedNewest(userId, privateAuctionIds,
+                        position == null ? Long.MAX_VALUE : Long.parseLong(position[0]), limit);
+                case PRICE -> auctionRepository.findFeedByPrice(userId, privateAuctionIds,
+                        position == null ? BigDecimal.valueOf(-1) : new BigDecimal(position[0]),
+                        position == null ? 0L : Long.parseLong(position[1]), limit);
+            };
+        } catch (RuntimeException ex) {
+            return Flux.error(new DataForAuctionIsNotValid(AuctionServiceConstants.EX_INVALID_FEED_CURSOR));
+        }
     }
 
-    private Mono<Long> removeAuctionFromCache(Long auctionId) {
-        String auctionKey = "auctions:" + auctionId;
-        return auctionRedisTemplate.delete(auctionKey)
-                .retry(3)
-                .onErrorResume(ex -> {
-                    log.error(AuctionServiceConstants.LOG_ERROR_REMOVING_AUCTION_FROM_CACHE, auctionId, ex.getMessage());
-                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_REMOVE_AUCTION_FROM_CACHE));
-                });
+    private String encodeFeedCursor(AuctionFeedSort sort, AuctionDTO last) {
+        String position = switch (sort) {
+            case ENDING_SOON -> last.getEndDate() + "|" + last.getAuctionId();
+            case NEWEST -> last.getAuctionId().toString();
+            case PRICE -> (last.getCurrentPrice() != null ? last.getCurrentPrice() : last.getStartingPrice()).toPlainString()
+                    + "|" + last.getAuctionId();
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
     }
 
-    private Mono<Boolean> canUserSeeAuction(Long userId, Long auctionId) {
-        String key = "auction:" + auctionId + ":users";
-        return setOperations.isMember(key, String.valueOf(userId))
-                .retry(3)
-                .onErrorResume(ex -> {
-                    log.error(AuctionServiceConstants.LOG_ERROR_CHECK_IF_USER_SEE_AUCTION, userId, auctionId, ex.getMessage());
-                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_TO_CHECK_USER));
-                });
+    private Flux<Auction> filterAccessibleAuctions(Long userId, List<Auction> auctions) {
+        List<Long> privateAuctionIds = auctions.stream()
+                .filter(auction -> !Boolean.TRUE.equals(auction.getPublicAccess()))
+                .map(Auction::getAuctionId)
+                .toList();
+
+        return auctionAccessService.findAccessibleAuctions(userId, privateAuctionIds)
+                .flatMapMany(accessible -> Flux.fromIterable(auctions)
+                        .filter(auction -> Boolean.TRUE.equals(auction.getPublicAccess())
+                                || accessible.contains(auction.getAuctionId())));
     }
 
-    private Mono<Long> saveUserForAuction(Long auctionId, Long userId) {
-        String key = "auction:" + auctionId + ":users";
-        return setOperations.add(key, String.valueOf(userId))
-                .retry(3)
-                .onErrorResume(ex -> {
-                    log.error(AuctionServiceConstants.LOG_ERROR_SAVING_USER_TO_AUCTION, userId, auctionId, ex.getMessage());
-                    return Mono.error(new RedisOperationException(AuctionServiceConstants.EX_FAIL_TO_SAVE_USER));
-                });
+    private Mono<Boolean> canUserSeeAuction(Long userId, Long auctionId) {
+        return auctionAccessService.canAccess(userId, auctionId);
     }
 
     private Mono<Auction> auctionAvailableToInteraction(Long auctionId, Long userId) {
@@ -606,6 +682,19 @@ public class AuctionServiceImpl implements AuctionService {
                 .switchIfEmpty(Mono.error(new AuctionNotAvailableException(AuctionServiceConstants.EX_AUCTION_NOT_AVAILABLE)));
     }
 
+    private Mono<Void> publishPersistedBid(Auction persistedAuction) {
+        return auctionKafkaService.sendNewBidNotificationEvent(persistedAuction);
+    }
+
+    private Mono<Void> publishCorrectedAuction(Auction reloadedAuction) {
+        log.info(AuctionServiceConstants.LOG_AUCTION_STATE_CORRECTED, reloadedAuction.getAuctionId(), reloadedAuction.getCurrentPrice());
+
+        return auctionLiveService.publish(auctionMapper.toPriceUpdate(reloadedAuction))
+                .then(auctionKafkaService.sendAuctionStateEvent(reloadedAuction))
+                .then(auctionCache.refresh(auctionMapper.toDto(reloadedAuction)))
+                .then();
+    }
+
     private Mono<Map<String, Long>> resolveUsersId(List<String> emails) {
         return Flux.fromIterable(emails)
                 .flatMap(email -> webClientUser
@@ -1,17 +1,21 @@
 package com.maria.validator;
 
 import com.maria.constant.AuctionServiceConstants;
+import com.maria.dto.AuctionFeedSort;
 import com.maria.dto.AuctionUpdateDTO;
 import com.maria.dto.CreateAuctionRequestDTO;
+import com.maria.exception.DataForAuctionIsNotValid;
 import com.maria.exception.InvalidAuctionUpdateDTOException;
 import com.maria.exception.InvalidCreateAuctionRequestDTOException;
 import com.maria.exception.InvalidIdException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,6 +23,10 @@ import java.util.stream.Collectors;
 @Component
 public class AuctionServiceValidation {
     private final Validator validator;
+    @Value("${auction-feed.default-limit}")
+    private int defaultFeedLimit;
+    @Value("${auction-feed.max-limit}")
+    private int maxFeedLimit;
 
     public Mono<Long> validateId(String id) {
         try {
@@ -32,6 +40,32 @@ public class AuctionServiceValidation {
         }
     }
 
+    public Mono<AuctionFeedSort> validateFeedSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Mono.just(AuctionFeedSort.ENDING_SOON);
+        }
+        try {
+            return Mono.just(AuctionFeedSort.valueOf(sort.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new DataForAuctionIsNotValid(AuctionServiceConstants.EX_INVALID_FEED_SORT));
+        }
+    }
+
+    public Mono<Integer> validateFeedLimit(String limit) {
+        if (limit == null || limit.isBlank()) {
+            return Mono.just(defaultFeedLimit);
+        }
+        try {
+            int pageSize = Integer.parseInt(limit.trim());
+            if (pageSize < 1 || pageSize > maxFeedLimit) {
+                return Mono.error(new DataForAuctionIsNotValid(AuctionServiceConstants.EX_INVALID_FEED_LIMIT));
+            }
+            return Mono.just(pageSize);
+        } catch (NumberFormatException ex) {
+            return Mono.error(new DataForAuctionIsNotValid(AuctionServiceConstants.EX_INVALID_FEED_LIMIT));
+        }
+    }
+
     public Mono<CreateAuctionRequestDTO> validateCreateAuctionRequestDTO(CreateAuctionRequestDTO createAuctionRequestDTO) {
         Set<ConstraintViolation<CreateAuctionRequestDTO>> violations = validator.validate(createAuctionRequestDTO);
 
@@ -0,0 +1,7 @@
+local accessible = {}
+for i, key in ipairs(KEYS) do
+    if redis.call('SISMEMBER', key, ARGV[1]) == 1 then
+        accessible[#accessible + 1] = ARGV[i + 1]
+    end
+end
+return accessible
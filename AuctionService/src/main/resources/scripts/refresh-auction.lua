@@ -0,0 +1,9 @@
+local updated = redis.call('SET', KEYS[1], ARGV[2], 'XX', 'KEEPTTL')
+if updated then
+    redis.call('ZADD', KEYS[2], 'XX', ARGV[3], ARGV[1])
+end
+redis.call('PUBLISH', ARGV[4], ARGV[1])
+if updated then
+    return 1
+end
+return 0
@@ -245,7 +245,7 @@ public class AuctionHandlerTest {
     }
 
     @Test
-    void closeAuction_SuccessReturnsAuctionDTO() {
+    void closeAuction_SuccessReturnsAccepted() {
         String testToken = generateToken(1L, "user");
         Long auctionId = 1L;
 
@@ -254,9 +254,9 @@ public class AuctionHandlerTest {
                 .uri("/auctions/close/{id}", auctionId)
                 .header("Authorization", "Bearer " + testToken)
                 .exchange()
-                .expectStatus().isOk()
-                .expectBody()
-                .jsonPath("$.auctionId").isEqualTo(1);
+                .expectStatus().isAccepted()
+                .expectBody(String.class)
+                .isEqualTo(AuctionServiceConstants.AUCTION_CLOSE_ACCEPTED);
     }
 
     @Test
@@ -290,7 +290,7 @@ public class AuctionHandlerTest {
     }
 
     @Test
-    void delete_SuccessReturnsString() {
+    void delete_SuccessReturnsAccepted() {
         String testToken = generateToken(1L, "user");
         Long auctionId = 7L;
 
@@ -299,9 +299,9 @@ public class AuctionHandlerTest {
                 .uri("/auctions/{id}", auctionId)
                 .header("Authorization", "Bearer " + testToken)
                 .exchange()
-                .expectStatus().isOk()
+                .expectStatus().isAccepted()
                 .expectBody(String.class)
-                .isEqualTo(AuctionServiceConstants.AUCTION_DELETED);
+                .isEqualTo(AuctionServiceConstants.AUCTION_DELETE_ACCEPTED);
     }
 
     @Test
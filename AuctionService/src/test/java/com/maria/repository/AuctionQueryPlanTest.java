@@ -0,0 +1,160 @@
+package com.maria.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Testcontainers
+public class AuctionQueryPlanTest {
+    private static DatabaseClient databaseClient;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("testdb")
+                    .withUsername("postgres")
+                    .withPassword("1234");
+
+    @BeforeAll
+    static void setup() throws IOException {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(String.format("r2dbc:postgresql://%s:%s@%s:%d/testdb",
+                POSTGRESQL_CONTAINER.getUsername(), POSTGRESQL_CONTAINER.getPassword(),
+                POSTGRESQL_CONTAINER.getHost(), POSTGRESQL_CONTAINER.getMappedPort(5432))));
+
+        execute(Files.readString(Path.of("..", "init.sql")));
+        try (Stream<Path> migrations = Files.list(Path.of("..", "db", "migration"))) {
+            for (Path migration : migrations.sorted().toList()) {
+                execute(Files.readString(migration));
+            }
+        }
+
+        execute("""
+                    INSERT INTO auction (item, seller, starting_price, current_price, bidder, start_date, end_date, finished, public_access)
+                    SELECT 1000 + i, i % 10000, 100.00, 100.00 + i % 500, i % 20000,
+                           TIMESTAMP '2020-01-01' + i * INTERVAL '1 minute' - INTERVAL '7 days',
+                           TIMESTAMP '2020-01-01' + i * INTERVAL '1 minute',
+                           i <= 990000, i % 2 = 0
+                    FROM generate_series(1, 1000000) AS i;
+                    ANALYZE auction;
+                """);
+    }
+
+    private static void execute(String sql) {
+        databaseClient.sql(sql)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    private void assertNoSequentialScan(String sql) {
+        List<String> plan = databaseClient.sql("EXPLAIN " + sql)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+
+        assertNotNull(plan);
+        assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                () -> "Sequential scan for query: " + sql + "\n" + String.join("\n", plan));
+    }
+
+    @Test
+    void findBySellerId_UsesIndex() {
+        assertNoSequentialScan("SELECT auction.* FROM auction WHERE auction.seller = 4242");
+    }
+
+    @Test
+    void findByItemId_UsesIndex() {
+        assertNoSequentialScan("SELECT auction.* FROM auction WHERE auction.item = 500000");
+    }
+
+    @Test
+    void findByFinishedIsFalse_UsesIndex() {
+        assertNoSequentialScan("SELECT auction.* FROM auction WHERE auction.finished = FALSE");
+    }
+
+    @Test
+    void findByFinishedIsFalseAndPublicAccessIsTrue_UsesIndex() {
+        assertNoSequentialScan("SELECT auction.* FROM auction WHERE auction.finished = FALSE AND auction.public_access = TRUE");
+    }
+
+    @Test
+    void findByEndDateBetween_UsesIndex() {
+        assertNoSequentialScan("SELECT auction.* FROM auction WHERE auction.end_date BETWEEN '2020-06-01 10:00:00' AND '2020-06-01 11:00:00'");
+    }
+
+    @Test
+    void updateHighestBid_UsesIndex() {
+        assertNoSequentialScan("""
+                    UPDATE auction SET current_price = 700.00, bidder = 1
+                    WHERE id = 4242 AND (current_price IS NULL OR current_price < 700.00)
+                    AND NOT finished AND NOW() BETWEEN start_date AND end_date
+                    RETURNING *
+                """);
+    }
+
+    @Test
+    void findFeedEndingSoon_UsesIndex() {
+        assertNoSequentialScan("""
+                    SELECT * FROM (
+                        (SELECT * FROM auction
+                         WHERE NOT finished AND public_access AND seller <> 42
+                         AND (end_date, id) > ('2021-11-20 10:00:00', 995000)
+                         ORDER BY end_date, id LIMIT 20)
+                        UNION ALL
+                        (SELECT * FROM auction
+                         WHERE id = ANY('{995001, 995003, 995005}'::bigint[]) AND NOT finished AND NOT public_access AND seller <> 42
+                         AND (end_date, id) > ('2021-11-20 10:00:00', 995000)
+                         ORDER BY end_date, id LIMIT 20)
+                    ) feed
+                    ORDER BY end_date, id LIMIT 20
+                """);
+    }
+
+    @Test
+    void findFeedNewest_UsesIndex() {
+        assertNoSequentialScan("""
+                    SELECT * FROM (
+                        (SELECT * FROM auction
+                         WHERE NOT finished AND public_access AND seller <> 42 AND id < 995000
+                         ORDER BY id DESC LIMIT 20)
+                        UNION ALL
+                        (SELECT * FROM auction
+                         WHERE id = ANY('{995001, 995003, 995005}'::bigint[]) AND NOT finished AND NOT public_access AND seller <> 42 AND id < 995000
+                         ORDER BY id DESC LIMIT 20)
+                    ) feed
+                    ORDER BY id DESC LIMIT 20
+                """);
+    }
+
+    @Test
+    void findFeedByPrice_UsesIndex() {
+        assertNoSequentialScan("""
+                    SELECT * FROM (
+                        (SELECT * FROM auction
+                         WHERE NOT finished AND public_access AND seller <> 42
+                         AND (COALESCE(current_price, starting_price), id) > (250.00, 995000)
+                         ORDER BY COALESCE(current_price, starting_price), id LIMIT 20)
+                        UNION ALL
+                        (SELECT * FROM auction
+                         WHERE id = ANY('{995001, 995003, 995005}'::bigint[]) AND NOT finished AND NOT public_access AND seller <> 42
+                         AND (COALESCE(current_price, starting_price), id) > (250.00, 995000)
+                         ORDER BY COALESCE(current_price, starting_price), id LIMIT 20)
+                    ) feed
+                    ORDER BY COALESCE(current_price, starting_price), id LIMIT 20
+                """);
+    }
+}
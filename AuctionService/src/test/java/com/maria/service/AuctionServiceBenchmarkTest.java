@@ -0,0 +1,314 @@
+package com.maria.service;
+
+import com.maria.AuctionServiceApplication;
+import com.maria.constant.AuctionServiceConstants;
+import com.maria.core.entity.AuctionDTO;
+import com.maria.dto.AuctionPriceUpdate;
+import com.maria.entity.Auction;
+import com.maria.repository.AuctionRepository;
+import com.redis.testcontainers.RedisContainer;
+import jakarta.annotation.PostConstruct;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@Tag("benchmark")
+@ActiveProfiles("integration-test")
+@Testcontainers
+@SpringBootTest(classes = AuctionServiceApplication.class)
+public class AuctionServiceBenchmarkTest {
+    @Autowired
+    private DatabaseClient databaseClient;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private ReactiveRedisTemplate<String, AuctionDTO> auctionRedisTemplate;
+    @Autowired
+    private ReactiveValueOperations<String, AuctionDTO> valueOperationsAuction;
+    @Autowired
+    private ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    @Autowired
+    private AuctionCache auctionCache;
+    @Autowired
+    private ReactiveSetOperations<String, String> setOperations;
+    @Autowired
+    private AuctionAccessService auctionAccessService;
+    @Autowired
+    private AuctionLiveService auctionLiveService;
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("testdb")
+                    .withUsername("postgres")
+                    .withPassword("1234");
+
+    @Container
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    @DynamicPropertySource
+    public static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
+        registry.add("spring.r2dbc.url",
+                () -> "r2dbc:postgresql://" + POSTGRESQL_CONTAINER.getHost() +
+                        ":" + POSTGRESQL_CONTAINER.getMappedPort(5432) + "/testdb");
+        registry.add("spring.r2dbc.username", POSTGRESQL_CONTAINER::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRESQL_CONTAINER::getPassword);
+        registry.add("spring.redis.host", redisContainer::getHost);
+        registry.add("spring.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+    }
+
+    @PostConstruct
+    public void initializeDatabase() {
+        String sql = """
+                    CREATE SCHEMA IF NOT EXISTS auction;
+
+                    CREATE TABLE IF NOT EXISTS auction (
+                        id SERIAL PRIMARY KEY,
+                        item BIGINT NOT NULL,
+                        seller BIGINT NOT NULL,
+                        starting_price DECIMAL(19,2) NOT NULL,
+                        current_price DECIMAL(19,2),
+                        bidder BIGINT,
+                        start_date TIMESTAMP NOT NULL,
+                        end_date TIMESTAMP NOT NULL,
+                        finished BOOLEAN NOT NULL,
+                        public_access BOOLEAN
+                    );
+
+                    CREATE TABLE IF NOT EXISTS auction_participant (
+                        id BIGSERIAL PRIMARY KEY,
+                        auction_id BIGINT NOT NULL REFERENCES auction (id) ON DELETE CASCADE,
+                        user_id BIGINT NOT NULL,
+                        joined_at TIMESTAMP NOT NULL DEFAULT NOW(),
+                        CONSTRAINT uq_auction_participant UNIQUE (auction_id, user_id)
+                    );
+
+                    CREATE TABLE IF NOT EXISTS outbox_event (
+                        id BIGSERIAL PRIMARY KEY,
+                        source VARCHAR(64) NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_key VARCHAR(255),
+                        payload_type VARCHAR(255) NOT NULL,
+                        payload TEXT NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT NOW()
+                    );
+                """;
+
+        databaseClient.sql(sql)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @BeforeAll
+    static void startKafka() {
+        kafkaContainer.start();
+        redisContainer.start();
+    }
+
+    @AfterAll
+    static void stopKafka() {
+        kafkaContainer.stop();
+        redisContainer.stop();
+    }
+
+    @Test
+    void updateHighestBid_conditionalUpdateVersusReadModifyWrite() {
+        Auction auction = Auction.builder()
+                .itemId(106L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        List<BigDecimal> bids = IntStream.rangeClosed(101, 300)
+                .mapToObj(BigDecimal::valueOf)
+                .collect(Collectors.toList());
+        Collections.shuffle(bids);
+
+        long readModifyWriteStart = System.nanoTime();
+        Flux.fromIterable(bids)
+                .flatMap(bid -> auctionRepository.findById(auctionId)
+                        .filter(stored -> stored.getCurrentPrice().compareTo(bid) < 0)
+                        .flatMap(stored -> {
+                            stored.setCurrentPrice(bid);
+                            stored.setBidderId(1L);
+                            return auctionRepository.save(stored);
+                        }), 16)
+                .blockLast();
+        Duration readModifyWrite = Duration.ofNanos(System.nanoTime() - readModifyWriteStart);
+
+        databaseClient.sql("UPDATE auction SET current_price = 100, bidder = NULL WHERE id = :id")
+                .bind("id", auctionId)
+                .fetch().rowsUpdated().block();
+
+        long conditionalUpdateStart = System.nanoTime();
+        Flux.fromIterable(bids)
+                .flatMap(bid -> auctionRepository.updateHighestBid(auctionId, bid, 1L, LocalDateTime.now()), 16)
+                .blockLast();
+        Duration conditionalUpdate = Duration.ofNanos(System.nanoTime() - conditionalUpdateStart);
+
+        System.out.printf("findById+save: %d ms, conditional update: %d ms for %d bids%n",
+                readModifyWrite.toMillis(), conditionalUpdate.toMillis(), bids.size());
+    }
+
+    @Test
+    void auctionCache_refreshScriptVersusHasKeyThenSet() {
+        AuctionDTO auction = AuctionDTO.builder()
+                .auctionId(900L)
+                .itemId(109L)
+                .startingPrice(BigDecimal.valueOf(100))
+                .currentPrice(BigDecimal.valueOf(100))
+                .sellerId(2L)
+                .publicAccess(true)
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(30))
+                .build();
+        String key = "auctions:" + auction.getAuctionId();
+        String member = auction.getAuctionId().toString();
+        double score = auction.getEndDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        ReactiveZSetOperations<String, String> zSetOperations = stringReactiveRedisTemplate.opsForZSet();
+        int iterations = 500;
+
+        valueOperationsAuction.set(key, auction, Duration.ofMinutes(5)).block();
+        zSetOperations.add(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, member, score).block();
+
+        long hasKeyThenSetStart = System.nanoTime();
+        Flux.range(1, iterations)
+                .concatMap(i -> {
+                    auction.setCurrentPrice(BigDecimal.valueOf(100 + i));
+                    return auctionRedisTemplate.hasKey(key)
+                            .filter(Boolean::booleanValue)
+                            .flatMap(exists -> valueOperationsAuction.set(key, auction)
+                                    .then(zSetOperations.add(AuctionServiceConstants.AUCTION_EXPIRY_INDEX, member, score))
+                                    .then(stringReactiveRedisTemplate.convertAndSend("auction-cache-invalidation", member)));
+                })
+                .blockLast();
+        Duration hasKeyThenSet = Duration.ofNanos(System.nanoTime() - hasKeyThenSetStart);
+
+        valueOperationsAuction.set(key, auction, Duration.ofMinutes(5)).block();
+
+        long refreshScriptStart = System.nanoTime();
+        Flux.range(1, iterations)
+                .concatMap(i -> {
+                    auction.setCurrentPrice(BigDecimal.valueOf(1000 + i));
+                    return auctionCache.refresh(auction);
+                })
+                .blockLast();
+        Duration refreshScript = Duration.ofNanos(System.nanoTime() - refreshScriptStart);
+
+        System.out.printf("hasKey+set+zadd+publish: %d ms, refresh script: %d ms for %d updates%n",
+                hasKeyThenSet.toMillis(), refreshScript.toMillis(), iterations);
+    }
+
+    @Test
+    void auctionAccessService_batchCheckVersusPerAuctionRoundTrips() {
+        Long userId = 11L;
+        int batchSize = 500;
+        List<Long> auctionIds = LongStream.range(100_000, 110_000).boxed().toList();
+
+        Flux.fromIterable(auctionIds)
+                .flatMap(auctionId -> setOperations.add("auction:" + auctionId + ":users",
+                        auctionId % 2 == 0 ? String.valueOf(userId) : "12"), 256)
+                .blockLast();
+
+        long perAuctionStart = System.nanoTime();
+        Long perAuctionAccessible = Flux.fromIterable(auctionIds)
+                .flatMap(auctionId -> setOperations.isMember("auction:" + auctionId + ":users", String.valueOf(userId)))
+                .filter(Boolean::booleanValue)
+                .count()
+                .block();
+        Duration perAuction = Duration.ofNanos(System.nanoTime() - perAuctionStart);
+
+        long batchedStart = System.nanoTime();
+        Long batchedAccessible = Flux.fromIterable(auctionIds)
+                .buffer(batchSize)
+                .concatMap(window -> auctionAccessService.findAccessibleAuctions(userId, window))
+                .map(accessible -> (long) accessible.size())
+                .reduce(0L, Long::sum)
+                .block();
+        Duration batched = Duration.ofNanos(System.nanoTime() - batchedStart);
+
+        System.out.printf("SISMEMBER per auction: %d ms (%d round trips), batched script: %d ms (%d round trips) for %d private auctions%n",
+                perAuction.toMillis(), auctionIds.size(), batched.toMillis(), auctionIds.size() / batchSize, auctionIds.size());
+        Assertions.assertEquals(perAuctionAccessible, batchedAccessible);
+    }
+
+    @Test
+    void auctionLiveService_fiftyThousandWatchersFootprint() {
+        int watcherCount = 50_000;
+        int auctionCount = 100;
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        AtomicLong received = new AtomicLong();
+        Disposable.Composite watchers = Disposables.composite();
+
+        System.gc();
+        long heapBefore = memoryMXBean.getHeapMemoryUsage().getUsed();
+        for (int i = 0; i < watcherCount; i++) {
+            watchers.add(auctionLiveService.watch(10_000L + i % auctionCount)
+                    .subscribe(update -> received.incrementAndGet()));
+        }
+        System.gc();
+        long heapAfter = memoryMXBean.getHeapMemoryUsage().getUsed();
+        Mono.delay(Duration.ofSeconds(2)).block();
+
+        long fanOutStart = System.nanoTime();
+        Flux.range(0, auctionCount)
+                .flatMap(i -> auctionLiveService.publish(AuctionPriceUpdate.builder()
+                        .auctionId(10_000L + i)
+                        .currentPrice(BigDecimal.valueOf(500))
+                        .updatedAt(LocalDateTime.now())
+                        .build()))
+                .blockLast();
+        Flux.interval(Duration.ofMillis(10))
+                .takeUntil(tick -> received.get() >= watcherCount)
+                .blockLast(Duration.ofSeconds(30));
+        Duration fanOut = Duration.ofNanos(System.nanoTime() - fanOutStart);
+
+        System.out.printf("%d watchers on %d auctions: %d bytes per watcher, fan-out of %d updates in %d ms%n",
+                watcherCount, auctionCount, (heapAfter - heapBefore) / watcherCount, auctionCount, fanOut.toMillis());
+
+        Assertions.assertEquals(watcherCount, received.get());
+        watchers.dispose();
+    }
+}
@@ -1,16 +1,26 @@
 package com.maria.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.maria.AuctionServiceApplication;
+import com.maria.constant.AuctionServiceConstants;
 import com.maria.core.entity.*;
+import com.maria.dto.AuctionFeedPage;
+import com.maria.dto.AuctionFeedSort;
+import com.maria.dto.AuctionPriceUpdate;
 import com.maria.entity.Auction;
+import com.maria.exception.BitNotPossibleException;
+import com.maria.exception.DataForAuctionIsNotValid;
 import com.maria.mapper.AuctionMapper;
+import com.maria.repository.AuctionParticipantRepository;
 import com.maria.repository.AuctionRepository;
 import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveSetOperations;
@@ -28,6 +38,9 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.kafka.receiver.ReceiverOptions;
 import reactor.kafka.sender.SenderOptions;
@@ -38,7 +51,13 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 @ActiveProfiles("integration-test")
 @Testcontainers
@@ -60,6 +79,25 @@ public class AuctionServiceTest {
     private AuctionMapper auctionMapper;
     @Autowired
     private AuctionService auctionService;
+    @Autowired
+    private AuctionBidEngine auctionBidEngine;
+    @Autowired
+    private AuctionExpiryScheduler auctionExpiryScheduler;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private AuctionCache auctionCache;
+    @Autowired
+    private AuctionAccessService auctionAccessService;
+    @Autowired
+    private AuctionParticipantRepository auctionParticipantRepository;
+    @Autowired
+    private AuctionLiveService auctionLiveService;
+    @Autowired
+    @Qualifier("redisObjectMapper")
+    private ObjectMapper redisObjectMapper;
+    @Autowired
+    private ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
     private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
 
     public <T> ReactiveKafkaProducerTemplate<String, T> createReactiveKafkaProducerTemplate() {
@@ -95,7 +133,7 @@ public class AuctionServiceTest {
                     .withPassword("1234");
 
     @Container
-    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:5.0.3-alpine")).withExposedPorts(6379);
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
 
     @BeforeEach
     private void setup() {
@@ -147,6 +185,24 @@ public class AuctionServiceTest {
                         finished BOOLEAN NOT NULL,
                         public_access BOOLEAN
                     );
+                    
+                    CREATE TABLE IF NOT EXISTS auction_participant (
+                        id BIGSERIAL PRIMARY KEY,
+                        auction_id BIGINT NOT NULL REFERENCES auction (id) ON DELETE CASCADE,
+                        user_id BIGINT NOT NULL,
+                        joined_at TIMESTAMP NOT NULL DEFAULT NOW(),
+                        CONSTRAINT uq_auction_participant UNIQUE (auction_id, user_id)
+                    );
+                    
+                    CREATE TABLE IF NOT EXISTS outbox_event (
+                        id BIGSERIAL PRIMARY KEY,
+                        source VARCHAR(64) NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_key VARCHAR(255),
+                        payload_type VARCHAR(255) NOT NULL,
+                        payload TEXT NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT NOW()
+                    );
                 """;
 
         databaseClient.sql(sql)
@@ -345,6 +401,511 @@ public class AuctionServiceTest {
                 .verify();
     }
 
+    @Test
+    void updateHighestBid_sequentialBidsKeepHighestPrice() {
+        Auction auction = Auction.builder()
+                .itemId(106L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        BigDecimal highestBid = BigDecimal.valueOf(300L);
+        for (BigDecimal bidValue : new BigDecimal[]{BigDecimal.valueOf(200L), highestBid, BigDecimal.valueOf(250L)}) {
+            NewBitEvent newBitEvent = NewBitEvent
+                    .builder()
+                    .auctionId(auctionId)
+                    .bidAmount(bidValue)
+                    .bidderId(1L)
+                    .build();
+            bidProducerTemplate.send("new-bid-events", newBitEvent.getAuctionId().toString(), newBitEvent).block();
+        }
+
+        Mono.delay(Duration.ofSeconds(15)).block();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .assertNext(repoUpdatedAuction -> {
+                    Assertions.assertEquals(0, repoUpdatedAuction.getCurrentPrice().compareTo(highestBid));
+                    Assertions.assertEquals(1L, repoUpdatedAuction.getBidderId());
+                })
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void auctionBidEngine_conflictingFlushReloadsBookFromDatabase() {
+        Auction auction = Auction.builder()
+                .itemId(106L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        StepVerifier.create(auctionBidEngine.placeBid(NewBitEvent.builder().auctionId(auctionId).bidAmount(BigDecimal.valueOf(200)).bidderId(1L).build()))
+                .assertNext(accepted -> Assertions.assertEquals(0, accepted.getCurrentPrice().compareTo(BigDecimal.valueOf(200))))
+                .expectComplete()
+                .verify();
+
+        databaseClient.sql("UPDATE auction SET current_price = 500, bidder = 7 WHERE id = :id")
+                .bind("id", auctionId)
+                .fetch().rowsUpdated().block();
+
+        Mono.delay(Duration.ofSeconds(3)).block();
+
+        StepVerifier.create(auctionBidEngine.placeBid(NewBitEvent.builder().auctionId(auctionId).bidAmount(BigDecimal.valueOf(300)).bidderId(1L).build()))
+                .expectError(BitNotPossibleException.class)
+                .verify();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .assertNext(repoAuction -> {
+                    Assertions.assertEquals(0, repoAuction.getCurrentPrice().compareTo(BigDecimal.valueOf(500)));
+                    Assertions.assertEquals(7L, repoAuction.getBidderId());
+                })
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void updateHighestBid_conditionalUpdateKeepsHighestBidUnderConcurrency() {
+        Auction auction = Auction.builder()
+                .itemId(106L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        List<BigDecimal> bids = IntStream.rangeClosed(101, 300)
+                .mapToObj(BigDecimal::valueOf)
+                .collect(Collectors.toList());
+        Collections.shuffle(bids);
+        BigDecimal highestBid = BigDecimal.valueOf(300L);
+
+        Flux.fromIterable(bids)
+                .flatMap(bid -> auctionRepository.updateHighestBid(auctionId, bid, 1L, LocalDateTime.now()), 16)
+                .blockLast();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .assertNext(repoUpdatedAuction -> {
+                    Assertions.assertEquals(0, repoUpdatedAuction.getCurrentPrice().compareTo(highestBid));
+                    Assertions.assertEquals(1L, repoUpdatedAuction.getBidderId());
+                })
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void updateHighestBid_ConflictingFlushPublishesDatabaseState() {
+        Auction auction = Auction.builder()
+                .itemId(110L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+        valueOperationsAuction.set("auctions:" + auctionId, auctionMapper.toDto(auction)).block();
+
+        List<AuctionPriceUpdate> updates = new CopyOnWriteArrayList<>();
+        Disposable watcher = auctionLiveService.watch(auctionId).subscribe(updates::add);
+
+        auctionService.updateHighestBid(NewBitEvent.builder()
+                .auctionId(auctionId)
+                .bidAmount(BigDecimal.valueOf(400))
+                .bidderId(1L)
+                .build()).block();
+        Mono.delay(Duration.ofSeconds(3)).block();
+
+        databaseClient.sql("UPDATE auction SET current_price = 700, bidder = 7 WHERE id = :id")
+                .bind("id", auctionId)
+                .fetch().rowsUpdated().block();
+        auctionService.updateHighestBid(NewBitEvent.builder()
+                .auctionId(auctionId)
+                .bidAmount(BigDecimal.valueOf(500))
+                .bidderId(3L)
+                .build()).block();
+        Mono.delay(Duration.ofSeconds(3)).block();
+        watcher.dispose();
+
+        AuctionPriceUpdate lastUpdate = updates.get(updates.size() - 1);
+        Assertions.assertEquals(0, lastUpdate.getCurrentPrice().compareTo(BigDecimal.valueOf(700)));
+        StepVerifier.create(auctionCache.get(auctionId))
+                .assertNext(cachedAuction -> Assertions.assertEquals(0, cachedAuction.getCurrentPrice().compareTo(BigDecimal.valueOf(700))))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void watchAuction_PushesAcceptedBidToWatchers() {
+        Auction auction = Auction.builder()
+                .itemId(106L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        NewBitEvent newBitEvent = NewBitEvent
+                .builder()
+                .bidId(1L)
+                .auctionId(auctionId)
+                .bidAmount(BigDecimal.valueOf(200L))
+                .bidderId(1L)
+                .build();
+
+        StepVerifier.create(auctionService.watchAuction(auctionId, 3L).take(2))
+                .assertNext(update -> Assertions.assertEquals(0, update.getCurrentPrice().compareTo(BigDecimal.valueOf(100))))
+                .then(() -> bidProducerTemplate.send("new-bid-events", auctionId.toString(), newBitEvent).block())
+                .assertNext(update -> {
+                    Assertions.assertEquals(auctionId, update.getAuctionId());
+                    Assertions.assertEquals(0, update.getCurrentPrice().compareTo(BigDecimal.valueOf(200)));
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void auctionLiveService_slowWatcherKeepsLatestUpdates() {
+        Long auctionId = 9_000L;
+
+        StepVerifier.create(auctionLiveService.watch(auctionId), 0)
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> Flux.range(1, 100)
+                        .concatMap(price -> auctionLiveService.publish(AuctionPriceUpdate.builder()
+                                .auctionId(auctionId)
+                                .currentPrice(BigDecimal.valueOf(price))
+                                .updatedAt(LocalDateTime.now())
+                                .build()))
+                        .blockLast())
+                .thenAwait(Duration.ofSeconds(1))
+                .thenRequest(Long.MAX_VALUE)
+                .assertNext(update -> Assertions.assertEquals(0, update.getCurrentPrice().compareTo(BigDecimal.valueOf(69))))
+                .expectNextCount(31)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void auctionLiveService_fansOutToEveryWatcherAndReleasesChannels() {
+        int watcherCount = 200;
+        int auctionCount = 10;
+        AtomicLong received = new AtomicLong();
+        Disposable.Composite watchers = Disposables.composite();
+
+        for (int i = 0; i < watcherCount; i++) {
+            watchers.add(auctionLiveService.watch(10_000L + i % auctionCount)
+                    .subscribe(update -> received.incrementAndGet()));
+        }
+        Mono.delay(Duration.ofSeconds(2)).block();
+
+        Flux.range(0, auctionCount)
+                .flatMap(i -> auctionLiveService.publish(AuctionPriceUpdate.builder()
+                        .auctionId(10_000L + i)
+                        .currentPrice(BigDecimal.valueOf(500))
+                        .updatedAt(LocalDateTime.now())
+                        .build()))
+                .blockLast();
+        Flux.interval(Duration.ofMillis(10))
+                .takeUntil(tick -> received.get() >= watcherCount)
+                .blockLast(Duration.ofSeconds(10));
+
+        Assertions.assertEquals(watcherCount, received.get());
+        watchers.dispose();
+        Assertions.assertEquals(0.0, meterRegistry.get("auction.live.channels").gauge().value());
+    }
+
+    @Test
+    void auctionLiveService_deliversUpdatesPublishedByOtherInstances() throws Exception {
+        Long auctionId = 9_100L;
+        AuctionPriceUpdate remoteUpdate = AuctionPriceUpdate.builder()
+                .auctionId(auctionId)
+                .currentPrice(BigDecimal.valueOf(750))
+                .updatedAt(LocalDateTime.now())
+                .build();
+        String message = redisObjectMapper.writeValueAsString(remoteUpdate);
+
+        StepVerifier.create(auctionLiveService.watch(auctionId).take(1))
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> {
+                    Long receivers = stringReactiveRedisTemplate.convertAndSend("auction-live:" + auctionId % 64, message).block();
+                    Assertions.assertEquals(1L, receivers);
+                })
+                .assertNext(update -> Assertions.assertEquals(0, update.getCurrentPrice().compareTo(BigDecimal.valueOf(750))))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Mono.delay(Duration.ofSeconds(1)).block();
+        StepVerifier.create(stringReactiveRedisTemplate.convertAndSend("auction-live:" + auctionId % 64, message))
+                .expectNext(0L)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void expiryScheduler_FinishesAuctionShortlyAfterEndDate() {
+        Auction auction = Auction.builder()
+                .itemId(107L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusSeconds(3))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        auctionExpiryScheduler.schedule(auctionId, auction.getEndDate()).block();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .assertNext(finishedAuction -> Assertions.assertTrue(finishedAuction.isFinished()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void closeAuction_PersistsUnflushedWinningBidBeforeFinishing() {
+        Auction auction = Auction.builder()
+                .itemId(107L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        NewBitEvent winningBid = NewBitEvent.builder()
+                .auctionId(auctionId)
+                .bidAmount(BigDecimal.valueOf(400))
+                .bidderId(1L)
+                .build();
+        bidProducerTemplate.send("new-bid-events", auctionId.toString(), winningBid).block();
+
+        StepVerifier.create(auctionService.closeAuction(auctionId, 2L))
+                .expectComplete()
+                .verify();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .assertNext(finishedAuction -> {
+                    Assertions.assertTrue(finishedAuction.isFinished());
+                    Assertions.assertEquals(0, finishedAuction.getCurrentPrice().compareTo(BigDecimal.valueOf(400)));
+                    Assertions.assertEquals(1L, finishedAuction.getBidderId());
+                })
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void deleteAuction_OwnerRemovesAuctionAfterPendingBids() {
+        Auction auction = Auction.builder()
+                .itemId(109L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        NewBitEvent pendingBid = NewBitEvent.builder()
+                .auctionId(auctionId)
+                .bidAmount(BigDecimal.valueOf(400))
+                .bidderId(1L)
+                .build();
+        bidProducerTemplate.send("new-bid-events", auctionId.toString(), pendingBid).block();
+
+        StepVerifier.create(auctionService.deleteAuction(auctionId, 2L))
+                .expectComplete()
+                .verify();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(auctionRepository.findById(auctionId))
+                .expectComplete()
+                .verify();
+        StepVerifier.create(auctionBidEngine.peek(auctionId))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void getAuction_ConcurrentMissesLoadFromDatabaseOnce() {
+        Auction auction = Auction.builder()
+                .itemId(108L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(true)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+
+        double missesBefore = meterRegistry.counter("auction.cache.requests", "tier", "db", "result", "miss").count();
+
+        StepVerifier.create(Flux.range(0, 50)
+                        .flatMap(i -> auctionService.getAuction(auctionId, 1L), 50)
+                        .collectList())
+                .assertNext(auctions -> {
+                    Assertions.assertEquals(50, auctions.size());
+                    auctions.forEach(auctionDTO -> Assertions.assertEquals(auctionId, auctionDTO.getAuctionId()));
+                })
+                .expectComplete()
+                .verify();
+
+        double missesAfter = meterRegistry.counter("auction.cache.requests", "tier", "db", "result", "miss").count();
+        Assertions.assertEquals(1, missesAfter - missesBefore);
+
+        StepVerifier.create(valueOperationsAuction.get("auctions:" + auctionId))
+                .assertNext(cachedAuction -> Assertions.assertEquals(auctionId, cachedAuction.getAuctionId()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void auctionCache_refreshScriptUpdatesCachedAuctionAndKeepsTtl() {
+        AuctionDTO auction = AuctionDTO.builder()
+                .auctionId(900L)
+                .itemId(109L)
+                .startingPrice(BigDecimal.valueOf(100))
+                .currentPrice(BigDecimal.valueOf(100))
+                .sellerId(2L)
+                .publicAccess(true)
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(30))
+                .build();
+        String key = "auctions:" + auction.getAuctionId();
+        int iterations = 10;
+
+        valueOperationsAuction.set(key, auction, Duration.ofMinutes(5)).block();
+
+        Flux.range(1, iterations)
+                .concatMap(i -> {
+                    auction.setCurrentPrice(BigDecimal.valueOf(1000 + i));
+                    return auctionCache.refresh(auction);
+                })
+                .blockLast();
+
+        StepVerifier.create(valueOperationsAuction.get(key))
+                .assertNext(cachedAuction -> Assertions.assertEquals(0, cachedAuction.getCurrentPrice().compareTo(BigDecimal.valueOf(1000 + iterations))))
+                .expectComplete()
+                .verify();
+        StepVerifier.create(auctionRedisTemplate.getExpire(key))
+                .assertNext(ttl -> Assertions.assertTrue(ttl.toSeconds() > 0))
+                .expectComplete()
+                .verify();
+        StepVerifier.create(auctionCache.refresh(AuctionDTO.builder().auctionId(901L).endDate(LocalDateTime.now()).build()))
+                .expectNext(false)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void getAuctionFeed_PagesPublicAndParticipatingPrivateAuctionsByEndDate() {
+        Long userId = 7L;
+        String key = "user:" + userId + ":auctions";
+        auctionRedisTemplate.delete(key).block();
+        setOperations.add(key, "1", "5").block();
+
+        AuctionFeedPage firstPage = auctionService.getAuctionFeed(userId, AuctionFeedSort.ENDING_SOON, null, 3).block();
+        assert firstPage != null;
+        Assertions.assertEquals(List.of(1L, 2L, 4L), firstPage.getAuctions().stream().map(AuctionDTO::getAuctionId).toList());
+        Assertions.assertNotNull(firstPage.getNextCursor());
+
+        StepVerifier.create(auctionService.getAuctionFeed(userId, AuctionFeedSort.ENDING_SOON, firstPage.getNextCursor(), 3))
+                .assertNext(secondPage -> {
+                    Assertions.assertEquals(List.of(5L), secondPage.getAuctions().stream().map(AuctionDTO::getAuctionId).toList());
+                    Assertions.assertNull(secondPage.getNextCursor());
+                })
+                .expectComplete()
+                .verify();
+
+        auctionRedisTemplate.delete("user:2:auctions").block();
+        StepVerifier.create(auctionService.getAuctionFeed(2L, AuctionFeedSort.NEWEST, null, 10))
+                .assertNext(page -> Assertions.assertEquals(List.of(4L), page.getAuctions().stream().map(AuctionDTO::getAuctionId).toList()))
+                .expectComplete()
+                .verify();
+
+        StepVerifier.create(auctionService.getAuctionFeed(userId, AuctionFeedSort.PRICE, "not-a-cursor", 3))
+                .expectError(DataForAuctionIsNotValid.class)
+                .verify();
+    }
+
+    @Test
+    void auctionAccessService_batchCheckReturnsAuctionsUserParticipatesIn() {
+        Long userId = 11L;
+        List<Long> auctionIds = LongStream.range(100_000, 100_020).boxed().toList();
+
+        Flux.fromIterable(auctionIds)
+                .flatMap(auctionId -> setOperations.add("auction:" + auctionId + ":users",
+                        auctionId % 2 == 0 ? String.valueOf(userId) : "12"))
+                .blockLast();
+
+        StepVerifier.create(auctionAccessService.findAccessibleAuctions(userId, auctionIds))
+                .assertNext(accessible -> Assertions.assertEquals(
+                        auctionIds.stream().filter(auctionId -> auctionId % 2 == 0).collect(Collectors.toSet()), accessible))
+                .expectComplete()
+                .verify();
+    }
+
     @Test
     void processAcceptanceEvent_SuccessUserAddedToAuction() {
         Auction auction = Auction.builder()
@@ -379,6 +940,50 @@ public class AuctionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void processAcceptanceEvent_participantSurvivesLossOfRedisProjection() {
+        Auction auction = Auction.builder()
+                .itemId(110L)
+                .currentPrice(BigDecimal.valueOf(100))
+                .startingPrice(BigDecimal.valueOf(100))
+                .startDate(LocalDateTime.now().minusMinutes(10))
+                .endDate(LocalDateTime.now().plusMinutes(50))
+                .sellerId(2L)
+                .finished(false)
+                .publicAccess(false)
+                .build();
+
+        auction = auctionRepository.save(auction).block();
+        assert auction != null;
+        Long auctionId = auction.getAuctionId();
+        Long userId = 13L;
+        String key = "auction:" + auctionId + ":users";
+
+        auctionService.processAcceptanceEvent(AcceptanceEvent.builder()
+                .auctionId(auctionId)
+                .userId(userId)
+                .acceptance(true)
+                .build()).block();
+
+        StepVerifier.create(auctionParticipantRepository.existsByAuctionIdAndUserId(auctionId, userId))
+                .expectNext(true)
+                .verifyComplete();
+
+        auctionRedisTemplate.delete(key, "user:" + userId + ":auctions", "auction-participants:projection").block();
+        Mono.delay(Duration.ofSeconds(3)).block();
+
+        StepVerifier.create(auctionService.getAuction(auctionId, userId))
+                .assertNext(auctionDTO -> Assertions.assertEquals(auctionId, auctionDTO.getAuctionId()))
+                .verifyComplete();
+
+        StepVerifier.create(setOperations.isMember(key, String.valueOf(userId)))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(setOperations.isMember("user:" + userId + ":auctions", String.valueOf(auctionId)))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @Test
     void processAcceptanceEvent_auctionNotExistsUserNotAdded() {
         Auction auction = Auction.builder()
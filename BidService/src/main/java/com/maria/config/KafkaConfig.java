@@ -2,6 +2,7 @@ package com.maria.config;
 
 import com.maria.constant.BidServiceEventConstants;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -10,13 +11,26 @@ import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
+    @Value("${kafka-topic.new-bid.partitions}")
+    private int newBidPartitions;
 
     @Bean
     public NewTopic createBidTopic(){
         return TopicBuilder
                 .name(BidServiceEventConstants.NEW_BID)
                 .replicas(1)
+                .partitions(newBidPartitions)
+                .configs(Map.of("min.insync.replicas", "1"))
+                .build();
+    }
+
+    @Bean
+    public NewTopic createAuctionStateTopic(){
+        return TopicBuilder
+                .name(BidServiceEventConstants.AUCTION_STATE)
+                .replicas(1)
                 .partitions(1)
+                .compact()
                 .configs(Map.of("min.insync.replicas", "1"))
                 .build();
     }
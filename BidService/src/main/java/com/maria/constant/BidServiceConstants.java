@@ -7,7 +7,6 @@ public final class BidServiceConstants {
     public final static String EX_ID_POSITIVE_NUMBER = "ID must be not null and positive number";
     public final static String EX_INVALID_ID_FORMAT = "Invalid ID format";
     public final static String RESPONSE_BID_PLACED = "Your bid has been placed successfully";
-    public final static String LOG_ERROR_KAFKA_CONSUMER = "Error in Kafka consumer: {}";
     public final static String LOG_BID_SAVED = "Bid successfully saved, auction id: {}, bid amount: {}";
     public final static String EX_FAIL_TO_GET_BIDS = "Failed to get bid";
     public final static String EX_FAIL_TO_CREATE_BID = "Failed to create bid";
@@ -19,6 +18,14 @@ public final class BidServiceConstants {
     public final static String EX_SERVICE_ERROR = "Service error occurred";
     public final static String LOG_FAIL_TO_DELETE_BID = "Error occurred while deleting the bid: {}";
     public final static String EX_FAIL_TO_DELETE_BID = "Failed to delete bid";
+    public final static String LOG_BIDS_DELETED_FOR_AUCTION = "Deleted {} bids of auction {}";
     public final static String EX_BID_EXISTS = "A bid for this auction already exists";
     public final static String EX_BIDS_AVAILABLE = "Only the seller can see the bids for his auction";
+    public final static String EX_LOW_BID = "Bid amount must be higher than the current price";
+    public final static String EX_SELLER_BID = "Seller cannot bid in his own auction";
+    public final static String EX_AUCTION_CLOSED_FOR_BIDS = "This auction is not accepting bids";
+    public final static String LOG_ERROR_AUCTION_STATE_CONSUMER = "Error in auction state consumer: {}";
+    public final static String LOG_BID_REJECTED = "Bid for auction {} rejected: {}";
+    public final static String EX_AUCTION_STATE_NOT_READY = "Auction state is still loading, try again shortly";
+    public final static String LOG_AUCTION_STATE_REPLAYED = "Auction state replayed, {} auctions loaded";
 }
@@ -3,4 +3,5 @@ package com.maria.constant;
 public final class BidServiceEventConstants {
     public final static String NEW_BID = "new-bid-events";
     public final static String DELETE_AUCTION = "delete-auction-events";
+    public final static String AUCTION_STATE = "auction-state-events";
 }
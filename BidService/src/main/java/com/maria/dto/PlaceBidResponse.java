@@ -0,0 +1,17 @@
+package com.maria.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response returned when a bid has been accepted")
+public class PlaceBidResponse {
+    @Schema(description = "Confirmation message", example = "Your bid has been placed successfully")
+    private String message;
+    @Schema(description = "Sequence number assigned to the accepted bid", example = "42")
+    private Long sequenceNumber;
+}
@@ -0,0 +1,7 @@
+package com.maria.exception;
+
+public class AuctionStateNotReadyException extends RuntimeException {
+    public AuctionStateNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,8 @@ package com.maria.handler;
 
 import com.maria.constant.BidServiceConstants;
 import com.maria.dto.PlaceBidRequest;
+import com.maria.dto.PlaceBidResponse;
+import com.maria.entity.Bid;
 import com.maria.service.BidService;
 import com.maria.validator.BidServiceValidation;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +14,12 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Component
 public class BidHandler {
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
     private final BidService bidService;
     private final BidServiceValidation bidServiceValidation;
 
@@ -24,9 +29,10 @@ public class BidHandler {
                 .zipWith(request.bodyToMono(PlaceBidRequest.class)
                         .flatMap(bidServiceValidation::validatePlaceBidRequest))
                 .flatMap(tuple -> bidService.placeBid(tuple.getT2(), tuple.getT1())
-                        .then(ServerResponse
+                        .flatMap(sequenceNumber -> ServerResponse
                                 .ok()
-                                .bodyValue(BidServiceConstants.RESPONSE_BID_PLACED)));
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(new PlaceBidResponse(BidServiceConstants.RESPONSE_BID_PLACED, sequenceNumber))));
     }
 
     public Mono<ServerResponse> getBiddersIdFromAuction(ServerRequest request) {
@@ -42,25 +48,26 @@ public class BidHandler {
     public Mono<ServerResponse> getAllBidsForUser(ServerRequest request) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
-                .flatMap(userId -> bidService.getAllUserBids(userId)
-                        .collectList()
-                        .flatMap(userBids ->
-                                ServerResponse
-                                        .ok()
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .bodyValue(userBids)));
+                .flatMap(userId -> ServerResponse
+                        .ok()
+                        .contentType(resolveListMediaType(request))
+                        .body(bidService.getAllUserBids(userId), Bid.class));
     }
 
     public Mono<ServerResponse> getAllBidsForAuction(ServerRequest request) {
         return bidServiceValidation.validateId(request.pathVariable("auctionId"))
                 .zipWith(ReactiveSecurityContextHolder.getContext()
                         .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString())))
-                .flatMap(tuple -> bidService.getAllAuctionBids(tuple.getT1(), tuple.getT2())
-                        .collectList()
-                        .flatMap(userBids ->
-                                ServerResponse
-                                        .ok()
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .bodyValue(userBids)));
+                .flatMap(tuple -> ServerResponse
+                        .ok()
+                        .contentType(resolveListMediaType(request))
+                        .body(bidService.getAllAuctionBids(tuple.getT1(), tuple.getT2()), Bid.class));
+    }
+
+    private MediaType resolveListMediaType(ServerRequest request) {
+        return request.headers().accept().stream()
+                .filter(mediaType -> STREAMING_MEDIA_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
     }
 }
@@ -1,6 +1,8 @@
 package com.maria.repository;
 
 import com.maria.entity.Bid;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -13,4 +15,8 @@ public interface BidRepository extends R2dbcRepository<Bid, Long> {
     Flux<Bid> findByUserId(Long userId);
 
     Mono<Bid> findByUserIdAndAuctionIdAndBidAmount(Long userId, Long auctionId, BigDecimal bidAmount);
+
+    @Modifying
+    @Query("DELETE FROM bid WHERE auction_id = :auctionId")
+    Mono<Long> deleteByAuctionId(Long auctionId);
 }
@@ -3,6 +3,7 @@ package com.maria.router;
 import com.maria.constant.BidServiceRouterConstants;
 import com.maria.dto.ErrorResponse;
 import com.maria.dto.PlaceBidRequest;
+import com.maria.dto.PlaceBidResponse;
 import com.maria.entity.Bid;
 import com.maria.handler.BidHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -49,12 +50,35 @@ public class BidRouter {
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
-                                            description = "Bid placed successfully"
+                                            description = "Bid placed successfully",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = PlaceBidResponse.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Bid is lower than the current price or placed by the seller",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Bid amount must be higher than the current price\"}"))
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
                                             description = "Unauthorized - user is not authenticated"
                                     ),
+                                    @ApiResponse(
+                                            responseCode = "403",
+                                            description = "Auction is not accepting bids",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"This auction is not accepting bids\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "503",
+                                            description = "Auction state is still loading after a restart",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Auction state is still loading, try again shortly\"}"))
+                                    ),
                                     @ApiResponse(
                                             responseCode = "500",
                                             description = "Service error",
@@ -128,21 +152,28 @@ public class BidRouter {
                     operation = @Operation(
                             operationId = "getAllBidsForUser",
                             summary = "Get all bids of the current user",
-                            description = "Returns a list of all bids placed by the currently authenticated user.",
+                            description = "Returns all bids placed by the currently authenticated user as a JSON array, or streams them as NDJSON or server-sent events when requested by the Accept header.",
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Successfully retrieved list of user's bids",
-                                            content = @Content(
-                                                    array = @ArraySchema(schema = @Schema(implementation = Bid.class)),
-                                                    examples = {
-                                                            @ExampleObject(
-                                                                    name = "UserBidsExample",
-                                                                    summary = "Example response",
-                                                                    value = "[{\"bidId\":1,\"userId\":12,\"bidAmount\":100.0,\"auctionId\":5},{\"bidId\":2,\"userId\":12,\"bidAmount\":150.0,\"auctionId\":6}]"
-                                                            )
-                                                    }
-                                            )
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            array = @ArraySchema(schema = @Schema(implementation = Bid.class)),
+                                                            examples = {
+                                                                    @ExampleObject(
+                                                                            name = "UserBidsExample",
+                                                                            summary = "Example response",
+                                                                            value = "[{\"bidId\":1,\"userId\":12,\"bidAmount\":100.0,\"auctionId\":5},{\"bidId\":2,\"userId\":12,\"bidAmount\":150.0,\"auctionId\":6}]"
+                                                                    )
+                                                            }
+                                                    ),
+                                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = Bid.class)),
+                                                    @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                            schema = @Schema(implementation = Bid.class))
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -166,7 +197,7 @@ public class BidRouter {
                     operation = @Operation(
                             operationId = "getAllBidsForAuction",
                             summary = "Get all bids for a specific auction",
-                            description = "Returns a list of all bids placed on the auction with the specified ID.",
+                            description = "Returns all bids placed on the auction with the specified ID as a JSON array, or streams them as NDJSON or server-sent events when requested by the Accept header.",
                             parameters = {
                                     @Parameter(
                                             name = "auctionId",
@@ -180,7 +211,14 @@ public class BidRouter {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Successfully returned list of bids",
-                                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = Bid.class)))
+                                            content = {
+                                                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            array = @ArraySchema(schema = @Schema(implementation = Bid.class))),
+                                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = Bid.class)),
+                                                    @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                            schema = @Schema(implementation = Bid.class))
+                                            }
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -209,7 +247,9 @@ public class BidRouter {
                 .route(POST(BidServiceRouterConstants.NEW_BID).and(accept(MediaType.APPLICATION_JSON)), bidHandler::placeBid)
                 .andRoute(GET(BidServiceRouterConstants.GET_BIDDERS_ID).and(accept(MediaType.APPLICATION_JSON))
                         .and(request -> "true".equals(request.headers().firstHeader("X-Internal-Service"))), bidHandler::getBiddersIdFromAuction)
-                .andRoute(GET(BidServiceRouterConstants.USER_BIDS).and(accept(MediaType.APPLICATION_JSON)), bidHandler::getAllBidsForUser)
-                .andRoute(GET(BidServiceRouterConstants.ALL_BIDS_FOR_AUCTION).and(accept(MediaType.APPLICATION_JSON)), bidHandler::getAllBidsForAuction);
+                .andRoute(GET(BidServiceRouterConstants.USER_BIDS)
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), bidHandler::getAllBidsForUser)
+                .andRoute(GET(BidServiceRouterConstants.ALL_BIDS_FOR_AUCTION)
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), bidHandler::getAllBidsForAuction);
     }
 }
@@ -0,0 +1,8 @@
+package com.maria.service;
+
+import com.maria.core.entity.AuctionStateEvent;
+import reactor.core.publisher.Mono;
+
+public interface AuctionReadModel {
+    Mono<AuctionStateEvent> getAuctionState(Long auctionId);
+}
@@ -0,0 +1,84 @@
+package com.maria.service;
+
+import com.maria.constant.BidServiceConstants;
+import com.maria.constant.BidServiceEventConstants;
+import com.maria.core.entity.AuctionStateEvent;
+import com.maria.core.kafka.KafkaClientFactory;
+import com.maria.exception.AuctionStateNotReadyException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionReadModelImpl implements AuctionReadModel {
+    private final KafkaClientFactory kafkaClientFactory;
+    private final Map<Long, AuctionStateEvent> auctions = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> replayEndOffsets = new ConcurrentHashMap<>();
+    private volatile boolean replayed;
+
+    @PostConstruct
+    public void initialize() {
+        Mono.fromCallable(() -> {
+                    if (!replayed) {
+                        replayEndOffsets.clear();
+                        replayEndOffsets.putAll(kafkaClientFactory.findEndOffsets(BidServiceEventConstants.AUCTION_STATE));
+                        replayEndOffsets.values().removeIf(endOffset -> endOffset == 0);
+                        markReplayedIfCaughtUp();
+                    }
+                    return kafkaClientFactory.createReplayConsumerTemplate(BidServiceEventConstants.AUCTION_STATE, AuctionStateEvent.class);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(ReactiveKafkaConsumerTemplate::receive)
+                .doOnNext(this::applyRecord)
+                .doOnError(error -> log.error(BidServiceConstants.LOG_ERROR_AUCTION_STATE_CONSUMER, error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @Override
+    public Mono<AuctionStateEvent> getAuctionState(Long auctionId) {
+        if (!replayed) {
+            return Mono.error(new AuctionStateNotReadyException(BidServiceConstants.EX_AUCTION_STATE_NOT_READY));
+        }
+        return Mono.justOrEmpty(auctions.get(auctionId));
+    }
+
+    private void applyRecord(ReceiverRecord<String, AuctionStateEvent> record) {
+        applyAuctionState(record.key(), record.value());
+        if (!replayed) {
+            replayEndOffsets.computeIfPresent(record.receiverOffset().topicPartition(),
+                    (partition, endOffset) -> record.receiverOffset().offset() + 1 >= endOffset ? null : endOffset);
+            markReplayedIfCaughtUp();
+        }
+    }
+
+    private void markReplayedIfCaughtUp() {
+        if (replayEndOffsets.isEmpty()) {
+            replayed = true;
+            log.info(BidServiceConstants.LOG_AUCTION_STATE_REPLAYED, auctions.size());
+        }
+    }
+
+    private void applyAuctionState(String key, AuctionStateEvent state) {
+        if (state == null) {
+            if (key != null) {
+                auctions.remove(Long.valueOf(key));
+            }
+            return;
+        }
+        auctions.put(state.getAuctionId(), state);
+    }
+}
@@ -6,7 +6,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface BidService {
-    Mono<Void> placeBid(PlaceBidRequest bidRequest, Long currentUserId);
+    Mono<Long> placeBid(PlaceBidRequest bidRequest, Long currentUserId);
 
     Flux<Bid> getAllAuctionBids(Long auctionId, Long currentUserId);
 
@@ -3,6 +3,8 @@ package com.maria.service;
 import com.maria.constant.BidServiceConstants;
 import com.maria.constant.BidServiceEventConstants;
 import com.maria.core.entity.*;
+import com.maria.core.kafka.ResilientKafkaListener;
+import com.maria.core.outbox.OutboxPublisher;
 import com.maria.dto.PlaceBidRequest;
 import com.maria.entity.Bid;
 import com.maria.exception.*;
@@ -10,105 +12,63 @@ import com.maria.repository.BidRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
-import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.kafka.receiver.ReceiverOptions;
-import reactor.kafka.sender.SenderOptions;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Function;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BidServiceImpl implements BidService {
     private final BidRepository bidRepository;
-    private ReactiveKafkaProducerTemplate<String, NewBitEvent> producerTemplate;
+    private final AuctionReadModel auctionReadModel;
     private final WebClient webClient;
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServersConfig;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final ResilientKafkaListener resilientKafkaListener;
     @Value("${kafka-group-id.auction}")
     private String kafkaAuctionGroup;
     @Value("${uri.get-seller}")
     private String getSellerUri;
 
-    public <T> ReactiveKafkaProducerTemplate<String, T> createReactiveKafkaProducerTemplate() {
-        Map<String, Object> producerProps = new HashMap<>();
-        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServersConfig);
-        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
-        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
-
-        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(producerProps));
-    }
-
-    public <T> ReactiveKafkaConsumerTemplate<String, T> createReactiveKafkaConsumerTemplate(String topic, Class<T> targetType, String groupId) {
-        Map<String, Object> consumerProps = new HashMap<>();
-        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServersConfig);
-        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, "org.apache.kafka.common.serialization.StringDeserializer");
-        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonDeserializer");
-        consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        consumerProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
-
-        ReceiverOptions<String, T> receiverOptions = ReceiverOptions.<String, T>create(consumerProps)
-                .subscription(Collections.singleton(topic));
-
-        return new ReactiveKafkaConsumerTemplate<>(receiverOptions);
-    }
-
     @PostConstruct
     public void initialize() {
-        this.producerTemplate = createReactiveKafkaProducerTemplate();
-        ReactiveKafkaConsumerTemplate<String, AuctionItemEvent> auctionDeletedConsumerTemplate =
-                createReactiveKafkaConsumerTemplate(BidServiceEventConstants.DELETE_AUCTION, AuctionItemEvent.class, kafkaAuctionGroup);
-
-        listenToKafkaTopic(auctionDeletedConsumerTemplate, this::processAuctionDeletedEvent);
-    }
-
-    private <T> void listenToKafkaTopic(ReactiveKafkaConsumerTemplate<String, T> consumerTemplate, Function<T, Mono<Void>> eventProcessor) {
-        consumerTemplate
-                .receiveAutoAck()
-                .flatMap(record -> eventProcessor.apply(record.value()))
-                .doOnError(error -> log.error(BidServiceConstants.LOG_ERROR_KAFKA_CONSUMER, error.getMessage()))
-                .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(5)))
-                .subscribe();
+        resilientKafkaListener.listen(BidServiceEventConstants.DELETE_AUCTION, AuctionItemEvent.class, kafkaAuctionGroup, this::processAuctionDeletedEvent);
     }
 
     private Mono<Void> processAuctionDeletedEvent(AuctionItemEvent event) {
-        return deleteBid(event.getAuctionId())
+        return deleteBids(event.getAuctionId())
                 .then();
     }
 
     @Override
-    public Mono<Void> placeBid(PlaceBidRequest bidRequest, Long currentUserId) {
-        return createBid(bidRequest, currentUserId)
-                .flatMap(newBid -> {
-                    NewBitEvent bitEvent = NewBitEvent.builder()
-                            .bidAmount(newBid.getBidAmount())
-                            .auctionId(newBid.getAuctionId())
-                            .bidderId(newBid.getUserId())
-                            .bidId(newBid.getBidId())
-                            .build();
-                    return producerTemplate.send(BidServiceEventConstants.NEW_BID, newBid.getAuctionId().toString(), bitEvent)
-                            .then();
-                })
+    public Mono<Long> placeBid(PlaceBidRequest bidRequest, Long currentUserId) {
+        return validateBidAgainstAuctionState(bidRequest, currentUserId)
+                .then(Mono.defer(() -> createBid(bidRequest, currentUserId)
+                        .flatMap(newBid -> {
+                            NewBitEvent bitEvent = NewBitEvent.builder()
+                                    .bidAmount(newBid.getBidAmount())
+                                    .auctionId(newBid.getAuctionId())
+                                    .bidderId(newBid.getUserId())
+                                    .bidId(newBid.getBidId())
+                                    .build();
+                            return outboxPublisher.publish(BidServiceEventConstants.NEW_BID, newBid.getAuctionId().toString(), bitEvent)
+                                    .thenReturn(newBid);
+                        })
+                        .as(transactionalOperator::transactional)))
+                .map(Bid::getBidId)
                 .doOnSuccess((success -> log.info(BidServiceConstants.LOG_BID_SAVED, bidRequest.getAuctionId(), bidRequest.getBidAmount())))
                 .onErrorMap(ex -> {
                     log.warn(BidServiceConstants.LOG_FAIL_TO_SAVE_BID, ex.getMessage());
-                    if (ex instanceof DatabaseOperationException || ex instanceof BidExistsException) {
+                    if (ex instanceof DatabaseOperationException || ex instanceof BidExistsException
+                            || ex instanceof DataForBidNotValidException || ex instanceof AuctionNotAvailableException
+                            || ex instanceof AuctionStateNotReadyException) {
                         return ex;
                     }
                     return new Exception(BidServiceConstants.EX_FAIL_TO_CREATE_BID);
@@ -116,6 +76,25 @@ public class BidServiceImpl implements BidService {
 
     }
 
+    private Mono<Void> validateBidAgainstAuctionState(PlaceBidRequest bidRequest, Long currentUserId) {
+        return auctionReadModel.getAuctionState(bidRequest.getAuctionId())
+                .switchIfEmpty(Mono.error(new AuctionNotAvailableException(BidServiceConstants.EX_AUCTION_NOT_AVAILABLE)))
+                .flatMap(auctionState -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    if (auctionState.getSellerId().equals(currentUserId)) {
+                        return Mono.error(new DataForBidNotValidException(BidServiceConstants.EX_SELLER_BID));
+                    }
+                    if (auctionState.isFinished() || now.isBefore(auctionState.getStartDate()) || now.isAfter(auctionState.getEndDate())) {
+                        return Mono.error(new AuctionNotAvailableException(BidServiceConstants.EX_AUCTION_CLOSED_FOR_BIDS));
+                    }
+                    if (bidRequest.getBidAmount().compareTo(auctionState.getCurrentPrice()) <= 0) {
+                        return Mono.error(new DataForBidNotValidException(BidServiceConstants.EX_LOW_BID));
+                    }
+                    return Mono.<Void>empty();
+                })
+                .doOnError(ex -> log.info(BidServiceConstants.LOG_BID_REJECTED, bidRequest.getAuctionId(), ex.getMessage()));
+    }
+
     private Mono<Bid> createBid(PlaceBidRequest bidRequest, Long currentUserId) {
         Bid newBid = Bid.builder()
                 .bidAmount(bidRequest.getBidAmount())
@@ -195,9 +174,9 @@ public class BidServiceImpl implements BidService {
                 .switchIfEmpty(Mono.error(new AuctionNotAvailableException(BidServiceConstants.EX_AUCTION_NOT_AVAILABLE)));
     }
 
-    private Flux<Void> deleteBid(Long auctionId) {
-        return bidRepository.findByAuctionId(auctionId)
-                .flatMap(bidRepository::delete)
+    private Mono<Long> deleteBids(Long auctionId) {
+        return bidRepository.deleteByAuctionId(auctionId)
+                .doOnNext(deleted -> log.info(BidServiceConstants.LOG_BIDS_DELETED_FOR_AUCTION, deleted, auctionId))
                 .onErrorResume(ex -> {
                     log.error(BidServiceConstants.LOG_FAIL_TO_DELETE_BID, ex.getMessage());
                     return Mono.error(new DatabaseOperationException(BidServiceConstants.EX_FAIL_TO_DELETE_BID));
@@ -105,12 +105,13 @@ public class BidHandlerTest {
                 .header("Authorization", "Bearer " + testToken)
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(String.class)
-                .isEqualTo(BidServiceConstants.RESPONSE_BID_PLACED);
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(BidServiceConstants.RESPONSE_BID_PLACED)
+                .jsonPath("$.sequenceNumber").isNumber();
     }
 
     @Test
-    void placeBid_ReturnsBidExistsException() {
+    void placeBid_ReturnsAuctionNotAvailableForFinishedAuction() {
         String testToken = generateToken(1L, "user");
         PlaceBidRequest placeBidRequest = new PlaceBidRequest(BigDecimal.valueOf(600L), 8L);
 
@@ -121,9 +122,9 @@ public class BidHandlerTest {
                 .bodyValue(placeBidRequest)
                 .header("Authorization", "Bearer " + testToken)
                 .exchange()
-                .expectStatus().isBadRequest()
+                .expectStatus().isForbidden()
                 .expectBody()
-                .jsonPath("$.error").isEqualTo(BidServiceConstants.EX_BID_EXISTS);
+                .jsonPath("$.error").isEqualTo(BidServiceConstants.EX_AUCTION_NOT_AVAILABLE);
     }
 
     @Test
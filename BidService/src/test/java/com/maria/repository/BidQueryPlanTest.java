@@ -0,0 +1,85 @@
+package com.maria.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Testcontainers
+public class BidQueryPlanTest {
+    private static DatabaseClient databaseClient;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("testdb")
+                    .withUsername("postgres")
+                    .withPassword("1234");
+
+    @BeforeAll
+    static void setup() throws IOException {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(String.format("r2dbc:postgresql://%s:%s@%s:%d/testdb",
+                POSTGRESQL_CONTAINER.getUsername(), POSTGRESQL_CONTAINER.getPassword(),
+                POSTGRESQL_CONTAINER.getHost(), POSTGRESQL_CONTAINER.getMappedPort(5432))));
+
+        execute(Files.readString(Path.of("..", "init.sql")));
+        try (Stream<Path> migrations = Files.list(Path.of("..", "db", "migration"))) {
+            for (Path migration : migrations.sorted().toList()) {
+                execute(Files.readString(migration));
+            }
+        }
+
+        execute("""
+                    INSERT INTO bid (user_id, auction_id, bid_amount)
+                    SELECT i % 20000, i % 50000, 100.00 + i % 1000
+                    FROM generate_series(1, 1000000) AS i;
+                    ANALYZE bid;
+                """);
+    }
+
+    private static void execute(String sql) {
+        databaseClient.sql(sql)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    private void assertNoSequentialScan(String sql) {
+        List<String> plan = databaseClient.sql("EXPLAIN " + sql)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+
+        assertNotNull(plan);
+        assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                () -> "Sequential scan for query: " + sql + "\n" + String.join("\n", plan));
+    }
+
+    @Test
+    void findByAuctionId_UsesIndex() {
+        assertNoSequentialScan("SELECT bid.* FROM bid WHERE bid.auction_id = 4242");
+    }
+
+    @Test
+    void findByUserId_UsesIndex() {
+        assertNoSequentialScan("SELECT bid.* FROM bid WHERE bid.user_id = 4242");
+    }
+
+    @Test
+    void findByUserIdAndAuctionIdAndBidAmount_UsesIndex() {
+        assertNoSequentialScan("SELECT bid.* FROM bid WHERE bid.user_id = 4242 AND bid.auction_id = 4242 AND bid.bid_amount = 342.00");
+    }
+}
@@ -0,0 +1,212 @@
+package com.maria.service;
+
+import com.maria.BidServiceApplication;
+import com.maria.constant.BidServiceEventConstants;
+import com.maria.constant.BidServiceRouterConstants;
+import com.maria.core.entity.AuctionItemEvent;
+import com.maria.entity.Bid;
+import com.maria.repository.BidRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.SenderOptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@ActiveProfiles("integration-test")
+@Testcontainers
+@SpringBootTest(classes = BidServiceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class BidServiceBenchmarkTest {
+    private ReactiveKafkaProducerTemplate<String, AuctionItemEvent> auctionDeletedProducerTemplate;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private DatabaseClient databaseClient;
+    @LocalServerPort
+    private int port;
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
+
+    public <T> ReactiveKafkaProducerTemplate<String, T> createReactiveKafkaProducerTemplate() {
+        Map<String, Object> producerProps = new HashMap<>();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
+
+        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(producerProps));
+    }
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER =
+            new PostgreSQLContainer<>("postgres:latest")
+                    .withDatabaseName("testdb")
+                    .withUsername("postgres")
+                    .withPassword("1234");
+
+    @BeforeEach
+    private void setup() {
+        this.auctionDeletedProducerTemplate = createReactiveKafkaProducerTemplate();
+
+        bidRepository.deleteAll().block();
+    }
+
+    @DynamicPropertySource
+    public static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
+        registry.add("spring.r2dbc.url",
+                () -> "r2dbc:postgresql://" + POSTGRESQL_CONTAINER.getHost() +
+                        ":" + POSTGRESQL_CONTAINER.getMappedPort(5432) + "/testdb");
+        registry.add("spring.r2dbc.username", POSTGRESQL_CONTAINER::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRESQL_CONTAINER::getPassword);
+    }
+
+    @PostConstruct
+    public void initializeDatabase() {
+        String sql = """
+                    CREATE SCHEMA IF NOT EXISTS auction;
+
+                    CREATE TABLE IF NOT EXISTS bid (
+                          id SERIAL PRIMARY KEY,
+                          user_id BIGINT NOT NULL,
+                          auction_id BIGINT NOT NULL,
+                          bid_amount DECIMAL(19, 2) NOT NULL
+                      );
+
+                    CREATE TABLE IF NOT EXISTS outbox_event (
+                        id BIGSERIAL PRIMARY KEY,
+                        source VARCHAR(64) NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_key VARCHAR(255),
+                        payload_type VARCHAR(255) NOT NULL,
+                        payload TEXT NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT NOW()
+                    );
+                """;
+
+        databaseClient.sql(sql)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    @BeforeAll
+    static void startKafka() {
+        kafkaContainer.start();
+    }
+
+    @AfterAll
+    static void stopKafka() {
+        kafkaContainer.stop();
+    }
+
+    @Test
+    void getAllBidsForUser_LargeResultLatencyAndHeapPerMediaType() {
+        databaseClient.sql("""
+                    INSERT INTO bid (user_id, auction_id, bid_amount)
+                    SELECT 10, 100 + n % 50, n FROM generate_series(1, 100000) AS n;
+                """).fetch().rowsUpdated().block();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + generateToken(10L))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1))
+                .build();
+
+        assertEquals(100000L, measureUserBidsStream(webClient, MediaType.APPLICATION_JSON));
+        assertEquals(100000L, measureUserBidsStream(webClient, MediaType.APPLICATION_NDJSON));
+        assertEquals(100000L, measureUserBidsStream(webClient, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    private long measureUserBidsStream(WebClient webClient, MediaType mediaType) {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memoryMXBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        AtomicLong firstElementNanos = new AtomicLong();
+        Disposable heapSampler = Flux.interval(Duration.ofMillis(5))
+                .subscribe(tick -> peakHeap.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max));
+
+        long start = System.nanoTime();
+        Long count = webClient.get()
+                .uri(BidServiceRouterConstants.USER_BIDS)
+                .accept(mediaType)
+                .retrieve()
+                .bodyToFlux(Bid.class)
+                .doOnNext(bid -> firstElementNanos.compareAndSet(0, System.nanoTime() - start))
+                .count()
+                .block(Duration.ofMinutes(2));
+        long totalNanos = System.nanoTime() - start;
+        heapSampler.dispose();
+
+        System.out.printf("%s: %d bids, first element after %d ms, completed in %d ms, peak heap growth %d MB%n",
+                mediaType, count, firstElementNanos.get() / 1_000_000, totalNanos / 1_000_000,
+                (peakHeap.get() - baselineHeap) / (1024 * 1024));
+        return count;
+    }
+
+    @Test
+    void auctionDeleted_LargeAuctionCascadeDuration() {
+        Long auctionId = 900L;
+        databaseClient.sql("""
+                    INSERT INTO bid (user_id, auction_id, bid_amount)
+                    SELECT 10 + n % 1000, 900, n FROM generate_series(1, 100000) AS n;
+                """).fetch().rowsUpdated().block();
+        AuctionItemEvent auctionItemEvent = new AuctionItemEvent(auctionId, 1L);
+
+        long start = System.nanoTime();
+        auctionDeletedProducerTemplate.send(BidServiceEventConstants.DELETE_AUCTION, auctionItemEvent).block();
+        Long remaining = Flux.interval(Duration.ofMillis(50))
+                .concatMap(tick -> bidRepository.findByAuctionId(auctionId).count())
+                .filter(count -> count == 0)
+                .next()
+                .block(Duration.ofMinutes(2));
+        Duration cascade = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("auction delete cascade: 100000 bids removed in %d ms%n", cascade.toMillis());
+
+        assertEquals(0L, remaining);
+    }
+
+    private String generateToken(Long userId) {
+        return Jwts.builder()
+                .addClaims(Map.of("role", List.of("user")))
+                .setSubject(userId.toString())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
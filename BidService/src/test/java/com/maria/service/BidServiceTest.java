@@ -1,18 +1,31 @@
 package com.maria.service;
 
 import com.maria.BidServiceApplication;
+import com.maria.constant.BidServiceConstants;
 import com.maria.constant.BidServiceEventConstants;
+import com.maria.constant.BidServiceRouterConstants;
 import com.maria.core.entity.AuctionItemEvent;
+import com.maria.core.entity.AuctionStateEvent;
 import com.maria.core.entity.NewBitEvent;
 import com.maria.dto.PlaceBidRequest;
+import com.maria.entity.Bid;
+import com.maria.exception.AuctionNotAvailableException;
+import com.maria.exception.BidExistsException;
+import com.maria.exception.DataForBidNotValidException;
 import com.maria.repository.BidRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
@@ -24,32 +37,43 @@ import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.kafka.receiver.ReceiverOptions;
 import reactor.kafka.sender.SenderOptions;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ActiveProfiles("integration-test")
 @Testcontainers
-@SpringBootTest(classes = BidServiceApplication.class)
+@SpringBootTest(classes = BidServiceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class BidServiceTest {
     private ReactiveKafkaConsumerTemplate<String, NewBitEvent> newBitConsumerTemplate;
     private ReactiveKafkaProducerTemplate<String, AuctionItemEvent> auctionDeletedProducerTemplate;
+    private ReactiveKafkaProducerTemplate<String, AuctionStateEvent> auctionStateProducerTemplate;
     @Autowired
     private BidRepository bidRepository;
     @Autowired
     private BidService bidService;
     @Autowired
     private DatabaseClient databaseClient;
+    @LocalServerPort
+    private int port;
+    @Value("${jwt.secret}")
+    private String jwtSecret;
     private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
 
 
@@ -87,6 +111,7 @@ public class BidServiceTest {
     @BeforeEach
     private void setup() {
         this.auctionDeletedProducerTemplate = createReactiveKafkaProducerTemplate();
+        this.auctionStateProducerTemplate = createReactiveKafkaProducerTemplate();
         this.newBitConsumerTemplate = createReactiveKafkaConsumerTemplate
                 (BidServiceEventConstants.NEW_BID, NewBitEvent.class, "bid-consumer-group");
 
@@ -128,6 +153,16 @@ public class BidServiceTest {
                           auction_id BIGINT NOT NULL,
                           bid_amount DECIMAL(19, 2) NOT NULL
                       );
+                    
+                    CREATE TABLE IF NOT EXISTS outbox_event (
+                        id BIGSERIAL PRIMARY KEY,
+                        source VARCHAR(64) NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_key VARCHAR(255),
+                        payload_type VARCHAR(255) NOT NULL,
+                        payload TEXT NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT NOW()
+                    );
                 """;
 
         databaseClient.sql(sql)
@@ -149,6 +184,7 @@ public class BidServiceTest {
     @Test
     void newBid_SendsSuccessfullyToConsumer() {
         PlaceBidRequest placeBidRequest = new PlaceBidRequest(BigDecimal.valueOf(250L), 2L);
+        publishOpenAuctionState(2L, BigDecimal.valueOf(150L));
         bidService.placeBid(placeBidRequest, 1L);
 
         Mono.delay(Duration.ofSeconds(10)).block();
@@ -166,6 +202,124 @@ public class BidServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void placeBid_RejectsLowBidFromAuctionState() {
+        AuctionStateEvent auctionState = AuctionStateEvent.builder()
+                .auctionId(20L)
+                .sellerId(3L)
+                .currentPrice(BigDecimal.valueOf(500L))
+                .startDate(LocalDateTime.now().minusHours(1))
+                .endDate(LocalDateTime.now().plusHours(1))
+                .finished(false)
+                .build();
+
+        auctionStateProducerTemplate.send(BidServiceEventConstants.AUCTION_STATE, "20", auctionState).block();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(bidService.placeBid(new PlaceBidRequest(BigDecimal.valueOf(400L), 20L), 1L))
+                .expectErrorMatches(ex -> ex instanceof DataForBidNotValidException
+                        && ex.getMessage().equals(BidServiceConstants.EX_LOW_BID))
+                .verify();
+
+        StepVerifier.create(bidRepository.findByAuctionId(20L))
+                .expectNextCount(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void placeBid_RejectsBidForUnknownAuction() {
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(bidService.placeBid(new PlaceBidRequest(BigDecimal.valueOf(400L), 21L), 1L))
+                .expectErrorMatches(ex -> ex instanceof AuctionNotAvailableException
+                        && ex.getMessage().equals(BidServiceConstants.EX_AUCTION_NOT_AVAILABLE))
+                .verify();
+
+        StepVerifier.create(bidRepository.findByAuctionId(21L))
+                .expectNextCount(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void placeBid_RejectsBidForDeletedAuction() {
+        publishOpenAuctionState(22L, BigDecimal.valueOf(100L));
+        auctionStateProducerTemplate.send(BidServiceEventConstants.AUCTION_STATE, "22", null).block();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(bidService.placeBid(new PlaceBidRequest(BigDecimal.valueOf(400L), 22L), 1L))
+                .expectErrorMatches(ex -> ex instanceof AuctionNotAvailableException
+                        && ex.getMessage().equals(BidServiceConstants.EX_AUCTION_NOT_AVAILABLE))
+                .verify();
+
+        StepVerifier.create(bidRepository.findByAuctionId(22L))
+                .expectNextCount(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void placeBid_RejectsRepeatedBid() {
+        publishOpenAuctionState(8L, BigDecimal.valueOf(500L));
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(bidService.placeBid(new PlaceBidRequest(BigDecimal.valueOf(600L), 8L), 1L))
+                .expectErrorMatches(ex -> ex instanceof BidExistsException
+                        && ex.getMessage().equals(BidServiceConstants.EX_BID_EXISTS))
+                .verify();
+    }
+
+    private void publishOpenAuctionState(Long auctionId, BigDecimal currentPrice) {
+        AuctionStateEvent auctionState = AuctionStateEvent.builder()
+                .auctionId(auctionId)
+                .sellerId(3L)
+                .currentPrice(currentPrice)
+                .startDate(LocalDateTime.now().minusHours(1))
+                .endDate(LocalDateTime.now().plusHours(1))
+                .finished(false)
+                .build();
+
+        auctionStateProducerTemplate.send(BidServiceEventConstants.AUCTION_STATE, auctionId.toString(), auctionState).block();
+    }
+
+    @Test
+    void getAllBidsForUser_StreamsEveryBidInEachMediaType() {
+        databaseClient.sql("""
+                    INSERT INTO bid (user_id, auction_id, bid_amount)
+                    SELECT 10, 100 + n % 50, n FROM generate_series(1, 1000) AS n;
+                """).fetch().rowsUpdated().block();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + generateToken(10L))
+                .build();
+
+        assertEquals(1000L, countUserBids(webClient, MediaType.APPLICATION_JSON));
+        assertEquals(1000L, countUserBids(webClient, MediaType.APPLICATION_NDJSON));
+        assertEquals(1000L, countUserBids(webClient, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    private Long countUserBids(WebClient webClient, MediaType mediaType) {
+        return webClient.get()
+                .uri(BidServiceRouterConstants.USER_BIDS)
+                .accept(mediaType)
+                .retrieve()
+                .bodyToFlux(Bid.class)
+                .count()
+                .block(Duration.ofSeconds(30));
+    }
+
+    private String generateToken(Long userId) {
+        return Jwts.builder()
+                .addClaims(Map.of("role", List.of("user")))
+                .setSubject(userId.toString())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
     @Test
     void auctionDeleted_DeleteBidsOfAuction() {
         AuctionItemEvent auctionItemEvent = new AuctionItemEvent(4L, 1L);
@@ -179,4 +333,25 @@ public class BidServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    @Test
+    void auctionDeleted_BulkDeletesAuctionBidsIdempotently() {
+        Long auctionId = 900L;
+        databaseClient.sql("""
+                    INSERT INTO bid (user_id, auction_id, bid_amount)
+                    SELECT 10 + n % 100, 900, n FROM generate_series(1, 1000) AS n;
+                """).fetch().rowsUpdated().block();
+        AuctionItemEvent auctionItemEvent = new AuctionItemEvent(auctionId, 1L);
+
+        auctionDeletedProducerTemplate.send(BidServiceEventConstants.DELETE_AUCTION, auctionItemEvent).block();
+        Long remaining = Flux.interval(Duration.ofMillis(50))
+                .concatMap(tick -> bidRepository.findByAuctionId(auctionId).count())
+                .filter(count -> count == 0)
+                .next()
+                .block(Duration.ofSeconds(30));
+
+        assertEquals(0L, remaining);
+        assertEquals(0L, bidRepository.deleteByAuctionId(auctionId).block());
+        assertEquals(3L, bidRepository.findByAuctionId(4L).count().block());
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR;
+
 @RequiredArgsConstructor
 @Configuration
 public class GatewayConfig {
@@ -38,6 +40,8 @@ public class GatewayConfig {
     private String itemServicePath;
     @Value("${path.auction.service}")
     private String auctionServicePath;
+    @Value("${path.auction.live}")
+    private String auctionLivePath;
     @Value("${path.notification.service}")
     private String notificationServicePath;
     @Value("${path.bid.service}")
@@ -61,6 +65,10 @@ public class GatewayConfig {
                 .route("item-service-route", r -> r.path(itemServicePath)
                         .filters(f -> f.filter(authenticationGatewayFilter))
                         .uri(itemServiceUri))
+                .route("auction-live-route", r -> r.path(auctionLivePath)
+                        .filters(f -> f.filter(authenticationGatewayFilter))
+                        .metadata(RESPONSE_TIMEOUT_ATTR, -1)
+                        .uri(auctionServiceUri))
                 .route("auction-service-route", r -> r.path(auctionServicePath)
                         .filters(f -> f.filter(authenticationGatewayFilter))
                         .uri(auctionServiceUri))
@@ -4,7 +4,6 @@ public final class InvitationServiceConstants {
     public final static String LOG_ERROR_RETRIEVING_INVITATIONS = "Error occurred while retrieving user invitations: {}";
     public final static String EX_FAIL_GET_INVITATIONS = "Failed to get invitations";
     public final static String LOG_NEW_INVITATION = "Invitation event: auction: {} user: {}";
-    public final static String LOG_ERROR_CONSUMER = "Error in Kafka consumer: {}";
     public final static String LOG_INVITATION_SAVED = "Invitation successfully saved, invitation id: {}";
     public final static String LOG_FAIL_SAVE_INVITATION = "Failed to save invitation: {}";
     public final static String EX_FAIL_SAVE_INVITATION = "Failed to save invitation";
@@ -4,6 +4,8 @@ import com.maria.constant.InvitationServiceConstants;
 import com.maria.constant.InvitationServiceEventConstants;
 import com.maria.core.entity.AcceptanceEvent;
 import com.maria.core.entity.InvitationEvent;
+import com.maria.core.kafka.ResilientKafkaListener;
+import com.maria.core.outbox.OutboxPublisher;
 import com.maria.entity.Invitation;
 import com.maria.exception.DatabaseOperationException;
 import com.maria.exception.InvitationNotExistException;
@@ -11,67 +13,29 @@ import com.maria.repository.InvitationRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
-import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.kafka.receiver.ReceiverOptions;
-import reactor.kafka.sender.SenderOptions;
-import reactor.util.retry.Retry;
-
-import java.time.Duration;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InvitationServiceImpl implements InvitationService {
     private final InvitationRepository invitationRepository;
-    private ReactiveKafkaConsumerTemplate<String, InvitationEvent> invitationConsumerTemplate;
-    private ReactiveKafkaProducerTemplate<String, AcceptanceEvent> acceptanceProducerTemplate;
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServersConfig;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final ResilientKafkaListener resilientKafkaListener;
     @Value("${kafka-group-id.invitation}")
     private String kafkaInvitationGroup;
 
-    public <T> ReactiveKafkaProducerTemplate<String, T> createReactiveKafkaProducerTemplate() {
-        Map<String, Object> producerProps = new HashMap<>();
-        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServersConfig);
-        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
-        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonSerializer");
-
-        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(producerProps));
-    }
-
-    public <T> ReactiveKafkaConsumerTemplate<String, T> createReactiveKafkaConsumerTemplate(String topic, Class<T> targetType, String groupId) {
-        Map<String, Object> consumerProps = new HashMap<>();
-        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServersConfig);
-        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, "org.apache.kafka.common.serialization.StringDeserializer");
-        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, "org.springframework.kafka.support.serializer.JsonDeserializer");
-        consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        consumerProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
-
-        ReceiverOptions<String, T> receiverOptions = ReceiverOptions.<String, T>create(consumerProps)
-                .subscription(Collections.singleton(topic));
-
-        return new ReactiveKafkaConsumerTemplate<>(receiverOptions);
-    }
-
     @PostConstruct
     public void initialize() {
-        String invitationTopic = InvitationServiceEventConstants.AUCTION_INVITATION;
-        this.invitationConsumerTemplate = createReactiveKafkaConsumerTemplate(invitationTopic, InvitationEvent.class, kafkaInvitationGroup);
-        this.acceptanceProducerTemplate = createReactiveKafkaProducerTemplate();
-
-        listenToInvitation();
+        resilientKafkaListener.listen(InvitationServiceEventConstants.AUCTION_INVITATION, InvitationEvent.class, kafkaInvitationGroup, event -> {
+            log.info(InvitationServiceConstants.LOG_NEW_INVITATION, event.getAuctionId(), event.getUserId());
+            return processInvitation(event);
+        });
     }
 
     @Override
@@ -87,19 +51,6 @@ public class InvitationServiceImpl implements InvitationService {
                 });
     }
 
-    private void listenToInvitation() {
-        invitationConsumerTemplate
-                .receiveAutoAck()
-                .flatMap(record -> {
-                    InvitationEvent event = record.value();
-                    log.info(InvitationServiceConstants.LOG_NEW_INVITATION, event.getAuctionId(), event.getUserId());
-                    return processInvitation(event);
-                })
-                .doOnError(error -> log.error(InvitationServiceConstants.LOG_ERROR_CONSUMER, error.getMessage()))
-                .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(5)))
-                .subscribe();
-    }
-
     private Mono<Void> processInvitation(InvitationEvent event) {
         Invitation newInvitation = Invitation.builder()
                 .auctionId(event.getAuctionId())
@@ -127,7 +78,8 @@ public class InvitationServiceImpl implements InvitationService {
                 .build();
 
         return updateAcceptance(userId, auctionId, accepted)
-                .then(acceptanceProducerTemplate.send(InvitationServiceEventConstants.ACCEPTANCE, responseEvent))
+                .then(outboxPublisher.publish(InvitationServiceEventConstants.ACCEPTANCE, auctionId.toString(), responseEvent))
+                .as(transactionalOperator::transactional)
                 .doOnSuccess(result -> log.info(InvitationServiceConstants.LOG_ACCEPTANCE_SENT))
                 .doOnError(error -> log.error(InvitationServiceConstants.LOG_ERROR_PRODUCER, error.getMessage()))
                 .then();
@@ -133,6 +133,16 @@ public class InvitationServiceTest {
                           usr BIGINT NOT NULL,
                           acceptance BOOLEAN
                       );
+                    
+                    CREATE TABLE IF NOT EXISTS outbox_event (
+                        id BIGSERIAL PRIMARY KEY,
+                        source VARCHAR(64) NOT NULL,
+                        topic VARCHAR(255) NOT NULL,
+                        event_key VARCHAR(255),
+                        payload_type VARCHAR(255) NOT NULL,
+                        payload TEXT NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT NOW()
+                    );
                 """;
 
         databaseClient.sql(sql)
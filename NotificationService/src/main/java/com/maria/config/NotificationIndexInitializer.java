@@ -0,0 +1,46 @@
+package com.maria.config;
+
+import com.maria.constant.NotificationServiceConstants;
+import com.maria.entity.AuctionEvent;
+import com.maria.entity.AuctionFollow;
+import com.maria.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationIndexInitializer {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        Flux.concat(
+                        reactiveMongoTemplate.indexOps(Notification.class)
+                                .ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("timestamp", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)),
+                        reactiveMongoTemplate.indexOps(Notification.class)
+                                .ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("isRead", Sort.Direction.ASC)
+                                        .on("timestamp", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)),
+                        reactiveMongoTemplate.indexOps(Notification.class)
+                                .ensureIndex(new Index().on("auctionId", Sort.Direction.ASC)),
+                        reactiveMongoTemplate.indexOps(AuctionEvent.class)
+                                .ensureIndex(new Index().on("auctionId", Sort.Direction.ASC).on("timestamp", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)),
+                        reactiveMongoTemplate.indexOps(AuctionFollow.class)
+                                .ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("auctionId", Sort.Direction.ASC).unique()),
+                        reactiveMongoTemplate.indexOps(AuctionFollow.class)
+                                .ensureIndex(new Index().on("auctionId", Sort.Direction.ASC)))
+                .doOnNext(index -> log.info(NotificationServiceConstants.LOG_INDEX_ENSURED, index))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_CREATE_INDEXES, ex.getMessage());
+                    return Flux.empty();
+                })
+                .blockLast();
+    }
+}
@@ -10,6 +10,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
@@ -23,6 +30,10 @@ public class NotificationServiceConfig {
     private final SecurityContextRepository securityContextRepository;
     @Value("${url.bid-service}")
     private String bidServiceUrl;
+    @Value("${spring.redis.host}")
+    private String redisHost;
+    @Value("${spring.redis.port}")
+    private int redisPort;
 
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) throws Exception {
@@ -44,6 +55,30 @@ public class NotificationServiceConfig {
                 .build();
     }
 
+    @Bean
+    public ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate(ReactiveRedisConnectionFactory factory) {
+        RedisSerializationContext<String, String> serializationContext = RedisSerializationContext
+                .<String, String>newSerializationContext()
+                .key(StringRedisSerializer.UTF_8)
+                .hashKey(StringRedisSerializer.UTF_8)
+                .hashValue(StringRedisSerializer.UTF_8)
+                .value(StringRedisSerializer.UTF_8)
+                .build();
+
+        return new ReactiveRedisTemplate<>(factory, serializationContext);
+    }
+
+    @Bean
+    public ReactiveSetOperations<String, String> reactiveSetOperationsString(ReactiveRedisTemplate<String, String> redisTemplate) {
+        return redisTemplate.opsForSet();
+    }
+
+    @Bean
+    @Primary
+    public ReactiveRedisConnectionFactory notificationReactiveRedisConnectionFactory() {
+        return new LettuceConnectionFactory(redisHost, redisPort);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
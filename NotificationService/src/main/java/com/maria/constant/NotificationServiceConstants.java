@@ -6,8 +6,10 @@ import org.springframework.stereotype.Component;
 public class NotificationServiceConstants {
     public static String SUCCESSFULLY_DELETED = "Notification successfully deleted";
     public static String NO_NOTIFICATIONS = "No notifications";
+    public static String AUCTION_MARKED_READ = "Auction notifications marked as read";
+    public static String NOTIFICATION_MARKED_READ = "Notification marked as read";
+    public static String ALL_NOTIFICATIONS_MARKED_READ = "All notifications marked as read";
     public static String INVALID_NOTIFICATION_ID_FORMAT = "Invalid notification ID format";
-    public static String LOG_ERROR_CONSUMER = "Error in Kafka notification consumer: {}";
     public static String MESSAGE_AUCTION_FINISHED = "The auction is finished: ";
     public static String LOG_NOTIFIC_SAVED = "Notification successfully saved";
     public static String LOG_NOT_SAVED = "Failed to save notification: {}";
@@ -24,6 +26,30 @@ public class NotificationServiceConstants {
     public static String EX_DELETE_NOTIFIC = "Failed to delete notification";
     public static String EX_NOTIFIC_NOT_AVAILABLE = "Notification is not available";
     public static String EX_AUCTION_FINISH = "Failed to save auction finished notification";
+    public static String LOG_NOTIFIC_BATCH_SAVED = "Saved batch of {} notifications";
+    public static String LOG_FAIL_SAVE_NOTIFIC_BATCH = "Failed to save batch of {} notifications: {}";
+    public static String LOG_NOTIFIC_QUEUE_FULL = "Notification write queue rejected {} notifications: {}";
+    public static String EX_NOTIFIC_QUEUE_FULL = "Notification write queue is full";
+    public static String LOG_AUCTION_EVENT_SAVED = "Auction event saved for auction {}";
+    public static String LOG_FAIL_SAVE_AUCTION_EVENT = "Failed to save auction event for auction {}: {}";
+    public static String LOG_INDEX_ENSURED = "Index {} ensured";
+    public static String LOG_FAIL_CREATE_INDEXES = "Failed to create notification indexes: {}";
+    public static String EX_SAVE_AUCTION_EVENT = "Failed to save auction event";
+    public static String EX_INVALID_FEED_LIMIT = "Limit must be a positive number not greater than the maximum page size";
+    public static String EX_INVALID_FEED_CURSOR = "Invalid feed cursor";
+    public static String EX_INVALID_AUCTION_ID = "Auction ID must be a positive number";
+    public static String LOG_FAIL_ADD_BIDDER = "Failed to add bidder {} to auction {}: {}";
+    public static String LOG_SKIP_BID_TOPIC_EVENT = "Skipping {} on the bid topic";
+    public static String LOG_FAIL_REMOVE_BIDDERS = "Failed to remove bidders of auction {}: {}";
+    public static String LOG_BIDDERS_SEEDED = "Seeded {} bidders for auction {} from bid service";
+    public static String LOG_FAIL_SEED_BIDDERS = "Failed to seed bidders of auction {} from bid service: {}";
+    public static String LOG_ERROR_BIDDERS_INVALIDATION_LISTENER = "Error in bidders invalidation listener: {}";
+    public static String EX_INVALID_INBOX_CURSOR = "Invalid inbox cursor";
+    public static String LOG_FAIL_MARK_READ = "Failed to mark notifications {} as read: {}";
+    public static String EX_MARK_READ = "Failed to mark notification as read";
+    public static String LOG_FAIL_UPDATE_UNREAD_COUNTER = "Failed to update unread counters: {}";
+    public static String LOG_UNREAD_COUNTER_REBUILD_CONTENDED = "Unread counter of user {} kept changing while it was rebuilt";
+    public static String LOG_NOTIFICS_DELETED_FOR_AUCTION = "Deleted {} notifications of auction {}";
 }
 
 
@@ -7,4 +7,5 @@ public class NotificationServiceEventConstants {
     public static String NEW_BID = "new-bid-notification-events";
     public static String AUCTION_FINISHED = "auction-finished-notification-events";
     public static String DELETE_AUCTION = "delete-auction-events";
+    public static String BID_PLACED = "new-bid-events";
 }
@@ -6,4 +6,10 @@ import org.springframework.stereotype.Component;
 public final class NotificationServiceRouterConstants {
     public static final String GET_ALL_NOTIFICATIONS = "/notifications/";
     public static final String DELETE_NOTIFICATION = "/notifications/{id}";
+    public static final String GET_NOTIFICATION_FEED = "/notifications/feed";
+    public static final String MARK_AUCTION_READ = "/notifications/feed/{auctionId}/read";
+    public static final String GET_NOTIFICATION_INBOX = "/notifications/inbox";
+    public static final String GET_UNREAD_COUNT = "/notifications/unread-count";
+    public static final String MARK_NOTIFICATION_READ = "/notifications/{id}/read";
+    public static final String MARK_ALL_NOTIFICATIONS_READ = "/notifications/read-all";
 }
@@ -0,0 +1,6 @@
+package com.maria.constant;
+
+public enum NotificationStorageMode {
+    FAN_OUT_ON_WRITE,
+    FAN_OUT_ON_READ
+}
@@ -0,0 +1,22 @@
+package com.maria.dto;
+
+import com.maria.entity.Notification;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of notifications, newest first")
+public class NotificationPage {
+    @Schema(description = "Notifications on this page")
+    private List<Notification> notifications;
+    @Schema(description = "Cursor for the next page, absent on the last page", example = "MjAyNS0wOC0wMlQxNDozMDowMHw2NGZhZTJjZDEyMzQ1Yjc4OTBhYmNkMTI")
+    private String nextCursor;
+}
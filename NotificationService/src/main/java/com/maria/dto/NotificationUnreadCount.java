@@ -0,0 +1,15 @@
+package com.maria.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of unread notifications of the current user")
+public class NotificationUnreadCount {
+    @Schema(description = "Unread notifications", example = "3")
+    private long unread;
+}
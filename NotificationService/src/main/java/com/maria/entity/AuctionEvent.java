@@ -0,0 +1,27 @@
+package com.maria.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "auction_events")
+@Data
+@NoArgsConstructor
+@Schema(description = "Auction event stored once and shown to every follower of the auction")
+public class AuctionEvent {
+    @Schema(description = "Event ID", example = "64fae2cd12345b7890abcd12")
+    @Id
+    private String id;
+    @Schema(description = "ID of the related auction", example = "2005")
+    private Long auctionId;
+    @Schema(description = "ID of the item related to the auction", example = "305")
+    private Long itemId;
+    @Schema(description = "Text of the event message", example = "The auction have a new bid: 250")
+    private String message;
+    @Schema(description = "Date and time when the event happened", example = "2025-08-02T14:30:00")
+    private LocalDateTime timestamp;
+}
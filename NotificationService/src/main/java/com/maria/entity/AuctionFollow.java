@@ -0,0 +1,27 @@
+package com.maria.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "auction_follows")
+@Data
+@NoArgsConstructor
+@Schema(description = "Auction followed by a user with the user's read watermark")
+public class AuctionFollow {
+    @Schema(description = "Follow ID", example = "64fae2cd12345b7890abcd12")
+    @Id
+    private String id;
+    @Schema(description = "ID of the following user", example = "1001")
+    private Long userId;
+    @Schema(description = "ID of the followed auction", example = "2005")
+    private Long auctionId;
+    @Schema(description = "Events before this time are not shown to the user", example = "2025-08-02T14:30:00")
+    private LocalDateTime followedAt;
+    @Schema(description = "Events up to this time are read", example = "2025-08-02T14:30:00")
+    private LocalDateTime lastReadAt;
+}
@@ -0,0 +1,17 @@
+package com.maria.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "notification_unread_counters")
+@Data
+@NoArgsConstructor
+public class NotificationUnreadCounter {
+    @Id
+    private Long userId;
+    private long unread;
+    private boolean initialized;
+    private long version;
+}
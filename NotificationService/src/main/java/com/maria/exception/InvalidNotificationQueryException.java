@@ -0,0 +1,7 @@
+package com.maria.exception;
+
+public class InvalidNotificationQueryException extends RuntimeException {
+    public InvalidNotificationQueryException(String message) {
+        super(message);
+    }
+}
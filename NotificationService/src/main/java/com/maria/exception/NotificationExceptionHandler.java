@@ -46,6 +46,12 @@ public class NotificationExceptionHandler {
         return Mono.just(Map.of("error", e.getMessage()));
     }
 
+    @ExceptionHandler(InvalidNotificationQueryException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Mono<Map<String, String>> handleInvalidNotificationQueryException(InvalidNotificationQueryException e) {
+        return Mono.just(Map.of("error", e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Mono<Map<String, String>> handleGenericExceptions(Exception e) {
@@ -1,6 +1,7 @@
 package com.maria.handler;
 
 import com.maria.constant.NotificationServiceConstants;
+import com.maria.service.NotificationInboxService;
 import com.maria.service.NotificationService;
 import com.maria.validator.NotificationServiceValidation;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import reactor.core.publisher.Mono;
 @Component
 public class NotificationHandler {
     private final NotificationService notificationService;
+    private final NotificationInboxService notificationInboxService;
     private final NotificationServiceValidation notificationServiceValidation;
 
     public Mono<ServerResponse> getNotifications(ServerRequest request) {
@@ -37,6 +39,71 @@ public class NotificationHandler {
                         }));
     }
 
+    public Mono<ServerResponse> getNotificationFeed(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .zipWith(notificationServiceValidation.validateFeedLimit(request.queryParam("limit")))
+                .flatMap(tuple -> notificationService.getNotificationFeed(tuple.getT1(), request.queryParam("cursor").orElse(null), tuple.getT2()))
+                .flatMap(feedPage -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(feedPage));
+    }
+
+    public Mono<ServerResponse> markAuctionRead(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .zipWith(notificationServiceValidation.validateAuctionId(request.pathVariable("auctionId")))
+                .flatMap(tuple -> notificationService.markAuctionRead(tuple.getT1(), tuple.getT2())
+                        .then(ServerResponse
+                                .ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(NotificationServiceConstants.AUCTION_MARKED_READ)));
+    }
+
+    public Mono<ServerResponse> getNotificationInbox(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .zipWith(notificationServiceValidation.validateFeedLimit(request.queryParam("limit")))
+                .flatMap(tuple -> notificationInboxService.getInbox(tuple.getT1(), request.queryParam("cursor").orElse(null),
+                        tuple.getT2(), Boolean.parseBoolean(request.queryParam("unread").orElse("false"))))
+                .flatMap(inboxPage -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(inboxPage));
+    }
+
+    public Mono<ServerResponse> getUnreadCount(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .flatMap(notificationInboxService::getUnreadCount)
+                .flatMap(unreadCount -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(unreadCount));
+    }
+
+    public Mono<ServerResponse> markNotificationRead(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .zipWith(notificationServiceValidation.validateNotificationId(request.pathVariable("id")))
+                .flatMap(tuple -> notificationInboxService.markRead(tuple.getT2(), tuple.getT1())
+                        .then(ServerResponse
+                                .ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(NotificationServiceConstants.NOTIFICATION_MARKED_READ)));
+    }
+
+    public Mono<ServerResponse> markAllNotificationsRead(ServerRequest request) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
+                .flatMap(userId -> notificationInboxService.markAllRead(userId)
+                        .then(ServerResponse
+                                .ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(NotificationServiceConstants.ALL_NOTIFICATIONS_MARKED_READ)));
+    }
+
     public Mono<ServerResponse> deleteNotification(ServerRequest request) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(auth -> Long.valueOf(auth.getAuthentication().getPrincipal().toString()))
@@ -0,0 +1,11 @@
+package com.maria.repository;
+
+import com.maria.entity.AuctionEvent;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface AuctionEventRepository extends ReactiveMongoRepository<AuctionEvent, String> {
+    Mono<Long> deleteByAuctionId(Long auctionId);
+}
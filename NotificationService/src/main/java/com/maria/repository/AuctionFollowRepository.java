@@ -0,0 +1,14 @@
+package com.maria.repository;
+
+import com.maria.entity.AuctionFollow;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface AuctionFollowRepository extends ReactiveMongoRepository<AuctionFollow, String> {
+    Flux<AuctionFollow> findByUserId(Long userId);
+
+    Mono<Long> deleteByAuctionId(Long auctionId);
+}
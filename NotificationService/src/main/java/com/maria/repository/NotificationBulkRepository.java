@@ -0,0 +1,10 @@
+package com.maria.repository;
+
+import com.maria.entity.Notification;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface NotificationBulkRepository {
+    Mono<Integer> insertUnordered(List<Notification> notifications);
+}
@@ -0,0 +1,46 @@
+package com.maria.repository;
+
+import com.maria.entity.Notification;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationBulkRepositoryImpl implements NotificationBulkRepository {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Integer> insertUnordered(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return Mono.just(0);
+        }
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class)
+                .insert(notifications)
+                .execute()
+                .map(BulkWriteResult::getInsertedCount)
+                .onErrorResume(ex -> isDuplicateKeyOnly(findBulkWriteException(ex)),
+                        ex -> Mono.just(findBulkWriteException(ex).getWriteResult().getInsertedCount()));
+    }
+
+    private static MongoBulkWriteException findBulkWriteException(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDuplicateKeyOnly(MongoBulkWriteException ex) {
+        return ex != null
+                && ex.getWriteConcernError() == null
+                && ex.getWriteErrors().stream()
+                .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+    }
+}
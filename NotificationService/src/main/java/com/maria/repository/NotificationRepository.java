@@ -1,13 +1,20 @@
 package com.maria.repository;
 
 import com.maria.entity.Notification;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
-public interface NotificationRepository extends ReactiveMongoRepository<Notification, String> {
+public interface NotificationRepository extends ReactiveMongoRepository<Notification, String>, NotificationBulkRepository {
     Flux<Notification> findByUserId(Long userId);
 
     Flux<Notification> findByAuctionId(Long auctionId);
+
+    Mono<Long> deleteByAuctionId(Long auctionId);
+
+    @Query(value = "{ 'userId': ?0, 'isRead': false }", count = true)
+    Mono<Long> countUnreadByUserId(Long userId);
 }
@@ -0,0 +1,9 @@
+package com.maria.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface NotificationUnreadCounterBulkRepository {
+    Mono<Void> incrementUnread(Map<Long, Long> increments);
+}
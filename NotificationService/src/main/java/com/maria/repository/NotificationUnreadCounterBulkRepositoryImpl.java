@@ -0,0 +1,30 @@
+package com.maria.repository;
+
+import com.maria.entity.NotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class NotificationUnreadCounterBulkRepositoryImpl implements NotificationUnreadCounterBulkRepository {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> incrementUnread(Map<Long, Long> increments) {
+        if (increments.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations bulkOperations = reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationUnreadCounter.class);
+        increments.forEach((userId, delta) -> bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("unread", delta).inc("version", 1)));
+        return bulkOperations.execute().then();
+    }
+}
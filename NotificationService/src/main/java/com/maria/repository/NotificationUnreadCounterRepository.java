@@ -0,0 +1,9 @@
+package com.maria.repository;
+
+import com.maria.entity.NotificationUnreadCounter;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends ReactiveMongoRepository<NotificationUnreadCounter, Long>, NotificationUnreadCounterBulkRepository {
+}
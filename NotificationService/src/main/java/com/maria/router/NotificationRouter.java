@@ -1,6 +1,8 @@
 package com.maria.router;
 
 import com.maria.constant.NotificationServiceRouterConstants;
+import com.maria.dto.NotificationPage;
+import com.maria.dto.NotificationUnreadCount;
 import com.maria.entity.ErrorResponse;
 import com.maria.entity.Notification;
 import com.maria.handler.NotificationHandler;
@@ -100,11 +102,233 @@ public class NotificationRouter {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.GET_NOTIFICATION_FEED,
+                    method = RequestMethod.GET,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "getNotificationFeed",
+                    operation = @Operation(
+                            operationId = "getNotificationFeed",
+                            summary = "Get a page of the notification feed for the current user",
+                            description = "Returns notifications for followed auctions newest first; pass nextCursor of the previous page to continue",
+                            parameters = {
+                                    @Parameter(
+                                            name = "cursor",
+                                            in = ParameterIn.QUERY,
+                                            description = "Cursor returned with the previous page",
+                                            schema = @Schema(type = "string")
+                                    ),
+                                    @Parameter(
+                                            name = "limit",
+                                            in = ParameterIn.QUERY,
+                                            description = "Maximum number of notifications to return",
+                                            schema = @Schema(type = "integer")
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Page of notifications returned successfully",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = NotificationPage.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid feed query",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Invalid feed cursor\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - user is not authenticated"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.MARK_AUCTION_READ,
+                    method = RequestMethod.POST,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "markAuctionRead",
+                    operation = @Operation(
+                            operationId = "markAuctionRead",
+                            summary = "Mark all notifications of an auction as read",
+                            description = "Moves the read watermark of the authenticated user for the auction to the current time",
+                            parameters = {
+                                    @Parameter(
+                                            name = "auctionId",
+                                            in = ParameterIn.PATH,
+                                            description = "Auction ID",
+                                            required = true,
+                                            schema = @Schema(type = "integer")
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Notifications marked as read successfully"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid auction ID",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Auction ID must be a positive number\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - JWT token is missing or invalid"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.GET_NOTIFICATION_INBOX,
+                    method = RequestMethod.GET,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "getNotificationInbox",
+                    operation = @Operation(
+                            operationId = "getNotificationInbox",
+                            summary = "Get a page of the notification inbox for the current user",
+                            description = "Returns notifications newest first; pass nextCursor of the previous page to continue",
+                            parameters = {
+                                    @Parameter(
+                                            name = "cursor",
+                                            in = ParameterIn.QUERY,
+                                            description = "Cursor returned with the previous page",
+                                            schema = @Schema(type = "string")
+                                    ),
+                                    @Parameter(
+                                            name = "limit",
+                                            in = ParameterIn.QUERY,
+                                            description = "Maximum number of notifications to return",
+                                            schema = @Schema(type = "integer")
+                                    ),
+                                    @Parameter(
+                                            name = "unread",
+                                            in = ParameterIn.QUERY,
+                                            description = "Return only unread notifications",
+                                            schema = @Schema(type = "boolean")
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Page of notifications returned successfully",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = NotificationPage.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Invalid inbox query",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Invalid inbox cursor\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - user is not authenticated"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.GET_UNREAD_COUNT,
+                    method = RequestMethod.GET,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "getUnreadCount",
+                    operation = @Operation(
+                            operationId = "getUnreadCount",
+                            summary = "Get the number of unread notifications for the current user",
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Unread count returned successfully",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = NotificationUnreadCount.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - user is not authenticated"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.MARK_NOTIFICATION_READ,
+                    method = RequestMethod.POST,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "markNotificationRead",
+                    operation = @Operation(
+                            operationId = "markNotificationRead",
+                            summary = "Mark a notification as read",
+                            parameters = {
+                                    @Parameter(
+                                            name = "id",
+                                            in = ParameterIn.PATH,
+                                            description = "Notification ID",
+                                            required = true,
+                                            schema = @Schema(type = "string")
+                                    )
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Notification marked as read successfully"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "404",
+                                            description = "Notification not found",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Notification does not exist\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "403",
+                                            description = "Forbidden - notification belongs to another user",
+                                            content = @Content(mediaType = "application/json",
+                                                    schema = @Schema(implementation = ErrorResponse.class),
+                                                    examples = @ExampleObject(value = "{\"error\": \"Notification is not available\"}"))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - JWT token is missing or invalid"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = NotificationServiceRouterConstants.MARK_ALL_NOTIFICATIONS_READ,
+                    method = RequestMethod.POST,
+                    beanClass = NotificationHandler.class,
+                    beanMethod = "markAllNotificationsRead",
+                    operation = @Operation(
+                            operationId = "markAllNotificationsRead",
+                            summary = "Mark all notifications of the current user as read",
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Notifications marked as read successfully"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Unauthorized - JWT token is missing or invalid"
+                                    )
+                            }
+                    )
             )
     })
     RouterFunction<ServerResponse> router(NotificationHandler notificationHandler) {
         return RouterFunctions
                 .route(GET(NotificationServiceRouterConstants.GET_ALL_NOTIFICATIONS).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::getNotifications)
-                .andRoute(DELETE(NotificationServiceRouterConstants.DELETE_NOTIFICATION).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::deleteNotification);
+                .andRoute(DELETE(NotificationServiceRouterConstants.DELETE_NOTIFICATION).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::deleteNotification)
+                .andRoute(GET(NotificationServiceRouterConstants.GET_NOTIFICATION_FEED).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::getNotificationFeed)
+                .andRoute(POST(NotificationServiceRouterConstants.MARK_AUCTION_READ).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::markAuctionRead)
+                .andRoute(GET(NotificationServiceRouterConstants.GET_NOTIFICATION_INBOX).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::getNotificationInbox)
+                .andRoute(GET(NotificationServiceRouterConstants.GET_UNREAD_COUNT).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::getUnreadCount)
+                .andRoute(POST(NotificationServiceRouterConstants.MARK_NOTIFICATION_READ).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::markNotificationRead)
+                .andRoute(POST(NotificationServiceRouterConstants.MARK_ALL_NOTIFICATIONS_READ).and(accept(MediaType.APPLICATION_JSON)), notificationHandler::markAllNotificationsRead);
     }
 }
@@ -0,0 +1,12 @@
+package com.maria.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AuctionBidderCache {
+    Mono<Void> addBidder(Long auctionId, Long bidderId);
+
+    Flux<Long> getBidders(Long auctionId);
+
+    Mono<Void> removeAuction(Long auctionId);
+}
@@ -0,0 +1,135 @@
+package com.maria.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maria.constant.NotificationServiceConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionBidderCacheImpl implements AuctionBidderCache {
+    private static final String BIDDERS_KEY_PREFIX = "auction-bidders:";
+    private static final String SEEDED_KEY_PREFIX = "auction-bidders-seeded:";
+    private final ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    private final ReactiveSetOperations<String, String> reactiveSetOperationsString;
+    private final NotificationService notificationService;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private AsyncCache<Long, long[]> localCache;
+    @Value("${auction-bidders.l1-max-bidders}")
+    private long l1MaxBidders;
+    @Value("${auction-bidders.l1-ttl-ms}")
+    private long l1TtlMs;
+    @Value("${auction-bidders.l2-ttl-hours}")
+    private long l2TtlHours;
+    @Value("${auction-bidders.invalidation-channel}")
+    private String invalidationChannel;
+
+    @PostConstruct
+    public void initialize() {
+        localCache = Caffeine.newBuilder()
+                .maximumWeight(l1MaxBidders)
+                .weigher((Long auctionId, long[] bidders) -> bidders.length + 1)
+                .expireAfterWrite(Duration.ofMillis(l1TtlMs))
+                .buildAsync();
+
+        disposables.add(
+                stringReactiveRedisTemplate.listenToChannel(invalidationChannel)
+                        .doOnNext(message -> localCache.synchronous().invalidate(Long.valueOf(message.getMessage())))
+                        .doOnError(ex -> log.error(NotificationServiceConstants.LOG_ERROR_BIDDERS_INVALIDATION_LISTENER, ex.getMessage()))
+                        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+    }
+
+    @Override
+    public Mono<Void> addBidder(Long auctionId, Long bidderId) {
+        String key = BIDDERS_KEY_PREFIX + auctionId;
+
+        return ensureSeeded(auctionId)
+                .then(reactiveSetOperationsString.add(key, bidderId.toString()))
+                .flatMap(added -> stringReactiveRedisTemplate.expire(key, Duration.ofHours(l2TtlHours))
+                        .then(stringReactiveRedisTemplate.expire(SEEDED_KEY_PREFIX + auctionId, Duration.ofHours(l2TtlHours)))
+                        .then(added > 0 ? invalidate(auctionId) : Mono.empty()))
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(200)))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_ADD_BIDDER, bidderId, auctionId, ex.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Flux<Long> getBidders(Long auctionId) {
+        return Mono.defer(() -> Mono.fromFuture(localCache.get(auctionId, (id, executor) -> load(id).toFuture())))
+                .flatMapMany(bidders -> Flux.fromStream(Arrays.stream(bidders).boxed()));
+    }
+
+    @Override
+    public Mono<Void> removeAuction(Long auctionId) {
+        return stringReactiveRedisTemplate.delete(BIDDERS_KEY_PREFIX + auctionId, SEEDED_KEY_PREFIX + auctionId)
+                .then(invalidate(auctionId))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_REMOVE_BIDDERS, auctionId, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<long[]> load(Long auctionId) {
+        return ensureSeeded(auctionId)
+                .thenMany(reactiveSetOperationsString.members(BIDDERS_KEY_PREFIX + auctionId))
+                .map(Long::valueOf)
+                .collectList()
+                .map(bidders -> bidders.stream().mapToLong(Long::longValue).sorted().toArray());
+    }
+
+    private Mono<Void> ensureSeeded(Long auctionId) {
+        String seededKey = SEEDED_KEY_PREFIX + auctionId;
+
+        return stringReactiveRedisTemplate.opsForValue().setIfAbsent(seededKey, "1", Duration.ofHours(l2TtlHours))
+                .flatMap(claimed -> claimed
+                        ? seed(auctionId).onErrorResume(ex -> {
+                            log.error(NotificationServiceConstants.LOG_FAIL_SEED_BIDDERS, auctionId, ex.getMessage());
+                            return stringReactiveRedisTemplate.delete(seededKey).then();
+                        })
+                        : Mono.empty());
+    }
+
+    private Mono<Void> seed(Long auctionId) {
+        String key = BIDDERS_KEY_PREFIX + auctionId;
+
+        return notificationService.getUserIdForAuctionNotification(auctionId)
+                .collectList()
+                .flatMap(bidders -> bidders.isEmpty()
+                        ? Mono.empty()
+                        : reactiveSetOperationsString.add(key, bidders.stream().map(String::valueOf).toArray(String[]::new))
+                                .then(stringReactiveRedisTemplate.expire(key, Duration.ofHours(l2TtlHours)))
+                                .then(invalidate(auctionId))
+                                .doOnSuccess(success -> log.info(NotificationServiceConstants.LOG_BIDDERS_SEEDED, bidders.size(), auctionId)));
+    }
+
+    private Mono<Void> invalidate(Long auctionId) {
+        return Mono.fromRunnable(() -> localCache.synchronous().invalidate(auctionId))
+                .then(stringReactiveRedisTemplate.convertAndSend(invalidationChannel, auctionId.toString()))
+                .then();
+    }
+}
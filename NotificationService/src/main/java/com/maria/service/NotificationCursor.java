@@ -0,0 +1,27 @@
+package com.maria.service;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+final class NotificationCursor {
+    private NotificationCursor() {
+    }
+
+    static Criteria after(String cursor) {
+        String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        LocalDateTime timestamp = LocalDateTime.parse(position[0]);
+        ObjectId id = new ObjectId(position[1]);
+        return new Criteria().orOperator(
+                Criteria.where("timestamp").lt(timestamp),
+                Criteria.where("timestamp").is(timestamp).and("_id").lt(id));
+    }
+
+    static String encode(LocalDateTime timestamp, String id) {
+        String position = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
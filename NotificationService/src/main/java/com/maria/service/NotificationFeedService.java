@@ -0,0 +1,15 @@
+package com.maria.service;
+
+import com.maria.dto.NotificationPage;
+import com.maria.entity.AuctionEvent;
+import reactor.core.publisher.Mono;
+
+public interface NotificationFeedService {
+    Mono<Void> recordEvent(AuctionEvent event, Long followerId);
+
+    Mono<NotificationPage> getFeed(Long userId, String cursor, int limit);
+
+    Mono<Void> markAuctionRead(Long userId, Long auctionId);
+
+    Mono<Void> removeAuction(Long auctionId);
+}
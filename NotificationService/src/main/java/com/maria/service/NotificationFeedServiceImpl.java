@@ -0,0 +1,118 @@
+package com.maria.service;
+
+import com.maria.constant.NotificationServiceConstants;
+import com.maria.dto.NotificationPage;
+import com.maria.entity.AuctionEvent;
+import com.maria.entity.AuctionFollow;
+import com.maria.entity.Notification;
+import com.maria.exception.DatabaseOperationException;
+import com.maria.exception.InvalidNotificationQueryException;
+import com.maria.repository.AuctionEventRepository;
+import com.maria.repository.AuctionFollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationFeedServiceImpl implements NotificationFeedService {
+    private final AuctionEventRepository auctionEventRepository;
+    private final AuctionFollowRepository auctionFollowRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> recordEvent(AuctionEvent event, Long followerId) {
+        return auctionEventRepository.save(event)
+                .then(followerId == null ? Mono.empty() : follow(followerId, event.getAuctionId(), event.getTimestamp()))
+                .doOnSuccess(success -> log.info(NotificationServiceConstants.LOG_AUCTION_EVENT_SAVED, event.getAuctionId()))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_SAVE_AUCTION_EVENT, event.getAuctionId(), ex.getMessage());
+                    return Mono.error(new DatabaseOperationException(NotificationServiceConstants.EX_SAVE_AUCTION_EVENT));
+                });
+    }
+
+    @Override
+    public Mono<NotificationPage> getFeed(Long userId, String cursor, int limit) {
+        return auctionFollowRepository.findByUserId(userId)
+                .collectMap(AuctionFollow::getAuctionId)
+                .flatMap(follows -> follows.isEmpty()
+                        ? Mono.just(List.<Notification>of())
+                        : Mono.fromCallable(() -> feedQuery(follows, cursor, limit))
+                                .onErrorMap(ex -> new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_FEED_CURSOR))
+                                .flatMapMany(query -> reactiveMongoTemplate.find(query, AuctionEvent.class))
+                                .filter(event -> !event.getTimestamp().isBefore(follows.get(event.getAuctionId()).getFollowedAt()))
+                                .take(limit)
+                                .map(event -> toNotification(event, userId, follows.get(event.getAuctionId())))
+                                .collectList())
+                .map(notifications -> NotificationPage.builder()
+                        .notifications(notifications)
+                        .nextCursor(notifications.size() < limit ? null : encodeCursor(notifications.get(notifications.size() - 1)))
+                        .build());
+    }
+
+    @Override
+    public Mono<Void> markAuctionRead(Long userId, Long auctionId) {
+        return reactiveMongoTemplate.updateFirst(
+                        Query.query(Criteria.where("userId").is(userId).and("auctionId").is(auctionId)),
+                        new Update().set("lastReadAt", LocalDateTime.now()),
+                        AuctionFollow.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> removeAuction(Long auctionId) {
+        return auctionEventRepository.deleteByAuctionId(auctionId)
+                .then(auctionFollowRepository.deleteByAuctionId(auctionId))
+                .then();
+    }
+
+    private Mono<Void> follow(Long userId, Long auctionId, LocalDateTime since) {
+        return reactiveMongoTemplate.upsert(
+                        Query.query(Criteria.where("userId").is(userId).and("auctionId").is(auctionId)),
+                        new Update().setOnInsert("followedAt", since).setOnInsert("lastReadAt", since),
+                        AuctionFollow.class)
+                .then();
+    }
+
+    private Query feedQuery(Map<Long, AuctionFollow> follows, String cursor, int limit) {
+        LocalDateTime earliestFollow = follows.values().stream()
+                .map(AuctionFollow::getFollowedAt)
+                .min(LocalDateTime::compareTo)
+                .orElseThrow();
+        Criteria criteria = Criteria.where("auctionId").in(follows.keySet()).and("timestamp").gte(earliestFollow);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = criteria.andOperator(NotificationCursor.after(cursor));
+        }
+
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .cursorBatchSize(limit);
+    }
+
+    private String encodeCursor(Notification last) {
+        return NotificationCursor.encode(last.getTimestamp(), last.getId());
+    }
+
+    private Notification toNotification(AuctionEvent event, Long userId, AuctionFollow follow) {
+        Notification notification = new Notification();
+        notification.setId(event.getId());
+        notification.setUserId(userId);
+        notification.setAuctionId(event.getAuctionId());
+        notification.setMessage(event.getMessage());
+        notification.setTimestamp(event.getTimestamp());
+        notification.setItemId(event.getItemId());
+        notification.setRead(!event.getTimestamp().isAfter(follow.getLastReadAt()));
+        return notification;
+    }
+}
@@ -0,0 +1,27 @@
+package com.maria.service;
+
+import com.maria.dto.NotificationPage;
+import com.maria.dto.NotificationUnreadCount;
+import com.maria.entity.Notification;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface NotificationInboxService {
+    Mono<NotificationPage> getInbox(Long userId, String cursor, int limit, boolean unreadOnly);
+
+    Mono<NotificationUnreadCount> getUnreadCount(Long userId);
+
+    Mono<Void> markRead(String notificationId, Long userId);
+
+    Mono<Void> markAllRead(Long userId);
+
+    Mono<Void> recordInserted(List<Notification> notifications);
+
+    Mono<Void> recordRemoved(Notification notification);
+
+    Mono<Void> recordRemoved(Map<Long, Long> unreadByUser);
+
+    Mono<Map<Long, Long>> countUnreadByUser(Long auctionId);
+}
@@ -0,0 +1,191 @@
+package com.maria.service;
+
+import com.maria.constant.NotificationServiceConstants;
+import com.maria.dto.NotificationPage;
+import com.maria.dto.NotificationUnreadCount;
+import com.maria.entity.Notification;
+import com.maria.entity.NotificationUnreadCounter;
+import com.maria.exception.DatabaseOperationException;
+import com.maria.exception.InvalidNotificationQueryException;
+import com.maria.exception.NotificationNotAvailableException;
+import com.maria.exception.NotificationNotExistException;
+import com.maria.repository.NotificationRepository;
+import com.maria.repository.NotificationUnreadCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxServiceImpl implements NotificationInboxService {
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<NotificationPage> getInbox(Long userId, String cursor, int limit, boolean unreadOnly) {
+        return Mono.fromCallable(() -> inboxQuery(userId, cursor, limit, unreadOnly))
+                .onErrorMap(ex -> new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_INBOX_CURSOR))
+                .flatMap(query -> reactiveMongoTemplate.find(query, Notification.class).collectList())
+                .map(notifications -> NotificationPage.builder()
+                        .notifications(notifications)
+                        .nextCursor(notifications.size() < limit ? null : encodeCursor(notifications.get(notifications.size() - 1)))
+                        .build());
+    }
+
+    @Override
+    public Mono<NotificationUnreadCount> getUnreadCount(Long userId) {
+        return notificationUnreadCounterRepository.findById(userId)
+                .filter(NotificationUnreadCounter::isInitialized)
+                .map(NotificationUnreadCounter::getUnread)
+                .switchIfEmpty(Mono.defer(() -> rebuildUnreadCounter(userId)))
+                .map(unread -> new NotificationUnreadCount(Math.max(0, unread)));
+    }
+
+    @Override
+    public Mono<Void> markRead(String notificationId, Long userId) {
+        return notificationRepository.findById(notificationId)
+                .switchIfEmpty(Mono.error(new NotificationNotExistException(NotificationServiceConstants.EX_NOTIFIC_NOT_EXIST)))
+                .filter(notification -> notification.getUserId().equals(userId))
+                .switchIfEmpty(Mono.error(new NotificationNotAvailableException(NotificationServiceConstants.EX_NOTIFIC_NOT_AVAILABLE)))
+                .flatMap(notification -> reactiveMongoTemplate.updateFirst(
+                        Query.query(Criteria.where("id").is(notificationId).and("isRead").is(false)),
+                        new Update().set("isRead", true),
+                        Notification.class))
+                .flatMap(result -> result.getModifiedCount() > 0
+                        ? notificationUnreadCounterRepository.incrementUnread(Map.of(userId, -1L))
+                        : Mono.empty())
+                .onErrorMap(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_MARK_READ, notificationId, ex.getMessage());
+                    if (ex instanceof NotificationNotExistException || ex instanceof NotificationNotAvailableException) {
+                        return ex;
+                    }
+                    return new DatabaseOperationException(NotificationServiceConstants.EX_MARK_READ);
+                });
+    }
+
+    @Override
+    public Mono<Void> markAllRead(Long userId) {
+        return reactiveMongoTemplate.updateMulti(
+                        Query.query(Criteria.where("userId").is(userId).and("isRead").is(false)),
+                        new Update().set("isRead", true),
+                        Notification.class)
+                .flatMap(result -> result.getModifiedCount() > 0
+                        ? notificationUnreadCounterRepository.incrementUnread(Map.of(userId, -result.getModifiedCount()))
+                        : Mono.empty())
+                .onErrorMap(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_MARK_READ, userId, ex.getMessage());
+                    return new DatabaseOperationException(NotificationServiceConstants.EX_MARK_READ);
+                });
+    }
+
+    @Override
+    public Mono<Void> recordInserted(List<Notification> notifications) {
+        Map<Long, Long> increments = notifications.stream()
+                .filter(notification -> !notification.isRead())
+                .collect(Collectors.groupingBy(Notification::getUserId, Collectors.counting()));
+
+        return notificationUnreadCounterRepository.incrementUnread(increments)
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_UPDATE_UNREAD_COUNTER, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> recordRemoved(Notification notification) {
+        if (notification.isRead()) {
+            return Mono.empty();
+        }
+        return notificationUnreadCounterRepository.incrementUnread(Map.of(notification.getUserId(), -1L))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_UPDATE_UNREAD_COUNTER, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> recordRemoved(Map<Long, Long> unreadByUser) {
+        Map<Long, Long> decrements = unreadByUser.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> -entry.getValue()));
+
+        return notificationUnreadCounterRepository.incrementUnread(decrements)
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_UPDATE_UNREAD_COUNTER, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Map<Long, Long>> countUnreadByUser(Long auctionId) {
+        return reactiveMongoTemplate.aggregate(
+                        Aggregation.newAggregation(
+                                Aggregation.match(Criteria.where("auctionId").is(auctionId).and("isRead").is(false)),
+                                Aggregation.group("userId").count().as("unread")),
+                        Notification.class,
+                        Document.class)
+                .collectMap(document -> ((Number) document.get("_id")).longValue(),
+                        document -> ((Number) document.get("unread")).longValue());
+    }
+
+    private Mono<Long> rebuildUnreadCounter(Long userId) {
+        return notificationUnreadCounterRepository.findById(userId)
+                .defaultIfEmpty(new NotificationUnreadCounter())
+                .flatMap(counter -> counter.isInitialized()
+                        ? Mono.just(counter.getUnread())
+                        : notificationRepository.countUnreadByUserId(userId)
+                                .flatMap(unread -> reactiveMongoTemplate.upsert(
+                                                Query.query(Criteria.where("_id").is(userId).and("initialized").ne(true)
+                                                        .andOperator(versionMatches(counter.getVersion()))),
+                                                new Update().inc("unread", unread - counter.getUnread()).inc("version", 1).set("initialized", true),
+                                                NotificationUnreadCounter.class)
+                                        .thenReturn(unread)))
+                .retryWhen(Retry.max(5)
+                        .filter(DuplicateKeyException.class::isInstance)
+                        .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()))
+                .onErrorResume(DuplicateKeyException.class, ex -> {
+                    log.warn(NotificationServiceConstants.LOG_UNREAD_COUNTER_REBUILD_CONTENDED, userId);
+                    return notificationUnreadCounterRepository.findById(userId)
+                            .map(NotificationUnreadCounter::getUnread);
+                });
+    }
+
+    private Criteria versionMatches(long version) {
+        return version == 0
+                ? new Criteria().orOperator(Criteria.where("version").is(0L), Criteria.where("version").exists(false))
+                : Criteria.where("version").is(version);
+    }
+
+    private Query inboxQuery(Long userId, String cursor, int limit, boolean unreadOnly) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (unreadOnly) {
+            criteria = criteria.and("isRead").is(false);
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = criteria.andOperator(NotificationCursor.after(cursor));
+        }
+
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(limit);
+    }
+
+    private String encodeCursor(Notification last) {
+        return NotificationCursor.encode(last.getTimestamp(), last.getId());
+    }
+}
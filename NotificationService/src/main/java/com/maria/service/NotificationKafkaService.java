@@ -1,30 +1,37 @@
 package com.maria.service;
 
-import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import reactor.kafka.receiver.ReceiverOptions;
 import com.maria.constant.NotificationServiceConstants;
 import com.maria.constant.NotificationServiceEventConstants;
+import com.maria.constant.NotificationStorageMode;
 import com.maria.core.entity.AuctionFinishedNotificationEvent;
 import com.maria.core.entity.AuctionItemEvent;
 import com.maria.core.entity.NewBidNotificationEvent;
+import com.maria.core.entity.NewBitEvent;
+import com.maria.core.kafka.KafkaClientConstants;
+import com.maria.core.kafka.KafkaListenerOptions;
+import com.maria.core.kafka.ResilientKafkaListener;
+import com.maria.entity.AuctionEvent;
 import com.maria.entity.Notification;
-import com.maria.exception.*;
+import com.maria.exception.DatabaseOperationException;
 import com.maria.repository.NotificationRepository;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,67 +39,140 @@ import java.util.Map;
 public class NotificationKafkaService {
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServersConfig;
-    @Value("${key-deserializer-class-config}")
-    private String keyDeserializer;
-    @Value("${value-deserializer-class-config}")
-    private String valueDeserializer;
+    private final NotificationFeedService notificationFeedService;
+    private final AuctionBidderCache auctionBidderCache;
+    private final NotificationInboxService notificationInboxService;
+    private final ResilientKafkaListener resilientKafkaListener;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private Sinks.Many<PendingNotification> notificationSink;
     @Value("${kafka-group-id.notification}")
     private String kafkaNotificationGroup;
     @Value("${kafka-group-id.auction}")
     private String kafkaAuctionGroup;
+    @Value("${kafka-group-id.bidders}")
+    private String kafkaBiddersGroup;
+    @Value("${notification-batch.size}")
+    private int notificationBatchSize;
+    @Value("${notification-batch.max-wait-ms}")
+    private long notificationBatchMaxWaitMs;
+    @Value("${notification-batch.max-pending}")
+    private int notificationMaxPending;
+    @Value("${notification-storage.mode}")
+    private NotificationStorageMode storageMode;
 
-    private <T> ReactiveKafkaConsumerTemplate<String, T> createReactiveKafkaConsumerTemplate(String topic, Class<T> targetType, String groupId) {
-        Map<String, Object> consumerProps = new HashMap<>();
-        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServersConfig);
-        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, keyDeserializer);
-        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
-        consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        consumerProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
+    @PostConstruct
+    public void initialize() {
+        notificationSink = Sinks.many().unicast().onBackpressureBuffer(Queues.<PendingNotification>get(notificationMaxPending).get());
+        disposables.add(notificationSink.asFlux()
+                .bufferTimeout(notificationBatchSize, Duration.ofMillis(notificationBatchMaxWaitMs))
+                .concatMap(this::saveNotificationBatch)
+                .subscribe());
 
-        ReceiverOptions<String, T> receiverOptions = ReceiverOptions.<String, T>create(consumerProps)
-                .subscription(Collections.singleton(topic));
+        if (storageMode == NotificationStorageMode.FAN_OUT_ON_READ) {
+            resilientKafkaListener.listen(NotificationServiceEventConstants.NEW_BID, NewBidNotificationEvent.class, kafkaNotificationGroup, this::recordNewBidEvent);
+            resilientKafkaListener.listen(NotificationServiceEventConstants.AUCTION_FINISHED, AuctionFinishedNotificationEvent.class, kafkaNotificationGroup, this::recordAuctionFinishedEvent);
+        } else {
+            listenToNotificationTopic(NotificationServiceEventConstants.NEW_BID, NewBidNotificationEvent.class, this::buildNewBidNotifications);
+            listenToNotificationTopic(NotificationServiceEventConstants.AUCTION_FINISHED, AuctionFinishedNotificationEvent.class, this::buildAuctionFinishedNotifications);
+        }
+        resilientKafkaListener.listen(NotificationServiceEventConstants.DELETE_AUCTION, AuctionItemEvent.class, kafkaAuctionGroup, this::processAuctionDeletedNotificationsEvent);
+        resilientKafkaListener.listen(NotificationServiceEventConstants.BID_PLACED, Object.class, kafkaBiddersGroup, this::processBidPlacedEvent);
+    }
 
-        return new ReactiveKafkaConsumerTemplate<>(receiverOptions);
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
     }
 
-    @PostConstruct
-    public void initialize() {
-        ReactiveKafkaConsumerTemplate<String, NewBidNotificationEvent> newBitNotificationConsumer =
-                createReactiveKafkaConsumerTemplate(NotificationServiceEventConstants.NEW_BID, NewBidNotificationEvent.class, kafkaNotificationGroup);
-        ReactiveKafkaConsumerTemplate<String, AuctionFinishedNotificationEvent> auctionFinishedNotificationConsumer =
-                createReactiveKafkaConsumerTemplate(NotificationServiceEventConstants.AUCTION_FINISHED, AuctionFinishedNotificationEvent.class, kafkaNotificationGroup);
-        ReactiveKafkaConsumerTemplate<String, AuctionItemEvent> auctionDeletedConsumerTemplate =
-                createReactiveKafkaConsumerTemplate(NotificationServiceEventConstants.DELETE_AUCTION, AuctionItemEvent.class, kafkaAuctionGroup);
-
-        listenToKafkaTopic(newBitNotificationConsumer, this::processNewBidNotificationsEvent);
-        listenToKafkaTopic(auctionFinishedNotificationConsumer, this::processAuctionFinishedNotificationsEvent);
-        listenToKafkaTopic(auctionDeletedConsumerTemplate, this::processAuctionDeletedNotificationsEvent);
+    private <T> void listenToNotificationTopic(String topic, Class<T> targetType, Function<T, Flux<Notification>> notificationBuilder) {
+        KafkaListenerOptions<T> options = KafkaListenerOptions.<T>builder()
+                .grouping(KafkaClientConstants.GROUPING_NONE)
+                .concurrency(notificationBatchSize)
+                .build();
+
+        resilientKafkaListener.listen(topic, targetType, kafkaNotificationGroup, event -> notificationBuilder.apply(event)
+                .collectList()
+                .flatMap(this::enqueueNotifications), options);
     }
 
-    private <T> void listenToKafkaTopic(ReactiveKafkaConsumerTemplate<String, T> consumerTemplate, Function<T, Mono<Void>> eventProcessor) {
-        consumerTemplate
-                .receiveAutoAck()
-                .flatMap(record -> eventProcessor.apply(record.value()))
-                .doOnError(error -> log.error(NotificationServiceConstants.LOG_ERROR_CONSUMER, error.getMessage()))
-                .retryWhen(Retry.fixedDelay(3, Duration.ofSeconds(5)))
-                .subscribe();
+    private Mono<Void> enqueueNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return Mono.empty();
+        }
+        AtomicInteger remaining = new AtomicInteger(notifications.size());
+        Sinks.Empty<Void> persisted = Sinks.empty();
+        for (Notification notification : notifications) {
+            Sinks.EmitResult result;
+            do {
+                result = notificationSink.tryEmitNext(new PendingNotification(notification, remaining, persisted));
+            } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+            if (result.isFailure()) {
+                log.warn(NotificationServiceConstants.LOG_NOTIFIC_QUEUE_FULL, notifications.size(), result);
+                persisted.tryEmitError(new DatabaseOperationException(NotificationServiceConstants.EX_NOTIFIC_QUEUE_FULL));
+                break;
+            }
+        }
+        return persisted.asMono();
     }
 
     private Mono<Void> processAuctionDeletedNotificationsEvent(AuctionItemEvent event) {
         return notificationService.removeNotificationsByAuction(event.getAuctionId())
-                .then();
+                .then(notificationFeedService.removeAuction(event.getAuctionId()))
+                .then(auctionBidderCache.removeAuction(event.getAuctionId()));
+    }
+
+    private Mono<Void> processBidPlacedEvent(Object event) {
+        if (event instanceof NewBitEvent bidEvent) {
+            return auctionBidderCache.addBidder(bidEvent.getAuctionId(), bidEvent.getBidderId());
+        }
+        log.debug(NotificationServiceConstants.LOG_SKIP_BID_TOPIC_EVENT, event.getClass().getSimpleName());
+        return Mono.empty();
     }
 
-    private Mono<Void> processAuctionFinishedNotificationsEvent(AuctionFinishedNotificationEvent event) {
-        return notificationService.getUserIdForAuctionNotification(event.getAuctionId())
-                .switchIfEmpty(Mono.defer(() -> {
+    private Mono<Void> recordNewBidEvent(NewBidNotificationEvent event) {
+        AuctionEvent auctionEvent = new AuctionEvent();
+        auctionEvent.setAuctionId(event.getAuctionId());
+        auctionEvent.setItemId(event.getItemId());
+        auctionEvent.setMessage(NotificationServiceConstants.MESSAGE_NEW_BID + event.getNewBid());
+        auctionEvent.setTimestamp(event.getTimestamp());
+
+        return notificationFeedService.recordEvent(auctionEvent, event.getBidderId());
+    }
+
+    private Mono<Void> recordAuctionFinishedEvent(AuctionFinishedNotificationEvent event) {
+        AuctionEvent auctionEvent = new AuctionEvent();
+        auctionEvent.setAuctionId(event.getAuctionId());
+        auctionEvent.setItemId(event.getItemId());
+        auctionEvent.setMessage(NotificationServiceConstants.MESSAGE_AUCTION_FINISHED + event.getAuctionId());
+        auctionEvent.setTimestamp(event.getTimestamp());
+
+        return notificationFeedService.recordEvent(auctionEvent, null);
+    }
+
+    private Mono<Integer> saveNotificationBatch(List<PendingNotification> pendingNotifications) {
+        List<Notification> notifications = pendingNotifications.stream()
+                .map(PendingNotification::getNotification)
+                .toList();
+
+        return notificationRepository.insertUnordered(notifications)
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(200)))
+                .flatMap(saved -> notificationInboxService.recordInserted(notifications).thenReturn(saved))
+                .doOnNext(saved -> log.info(NotificationServiceConstants.LOG_NOTIFIC_BATCH_SAVED, saved))
+                .doOnSuccess(saved -> pendingNotifications.forEach(PendingNotification::markSaved))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_SAVE_NOTIFIC_BATCH, notifications.size(), ex.getMessage());
+                    pendingNotifications.forEach(pendingNotification -> pendingNotification.markFailed(ex));
+                    return Mono.just(0);
+                });
+    }
+
+    private Flux<Notification> buildAuctionFinishedNotifications(AuctionFinishedNotificationEvent event) {
+        return auctionBidderCache.getBidders(event.getAuctionId())
+                .switchIfEmpty(Flux.defer(() -> {
                     log.info(NotificationServiceConstants.LOG_NO_USERS_TO_NOTIFICATION, event.getAuctionId());
-                    return Mono.empty();
+                    return Flux.empty();
                 }))
-                .flatMap(userId -> {
+                .map(userId -> {
                     Notification notification = new Notification();
                     notification.setUserId(userId);
                     notification.setAuctionId(event.getAuctionId());
@@ -100,24 +180,17 @@ public class NotificationKafkaService {
                     notification.setTimestamp(event.getTimestamp());
                     notification.setItemId(event.getItemId());
                     notification.setRead(false);
-
-                    return notificationRepository.save(notification)
-                            .doOnSuccess(saved -> log.info(NotificationServiceConstants.LOG_NOTIFIC_SAVED))
-                            .onErrorResume(ex -> {
-                                log.error(NotificationServiceConstants.LOG_NOT_SAVED, ex.getMessage());
-                                return Mono.error(new DatabaseOperationException(NotificationServiceConstants.EX_AUCTION_FINISH));
-                            });
-                })
-                .then();
+                    return notification;
+                });
     }
 
-    private Mono<Void> processNewBidNotificationsEvent(NewBidNotificationEvent event) {
-        return notificationService.getUserIdForAuctionNotification(event.getAuctionId())
-                .switchIfEmpty(Mono.defer(() -> {
+    private Flux<Notification> buildNewBidNotifications(NewBidNotificationEvent event) {
+        return auctionBidderCache.getBidders(event.getAuctionId())
+                .switchIfEmpty(Flux.defer(() -> {
                     log.info(NotificationServiceConstants.LOG_NO_USERS_TO_NOTIFICATION, event.getAuctionId());
-                    return Mono.empty();
+                    return Flux.empty();
                 }))
-                .flatMap(userId -> {
+                .map(userId -> {
                     Notification notification = new Notification();
                     notification.setUserId(userId);
                     notification.setAuctionId(event.getAuctionId());
@@ -125,14 +198,7 @@ public class NotificationKafkaService {
                     notification.setTimestamp(event.getTimestamp());
                     notification.setItemId(event.getItemId());
                     notification.setRead(false);
-
-                    return notificationRepository.save(notification)
-                            .doOnSuccess(saved -> log.info(NotificationServiceConstants.LOG_NOTIFIC_SAVED))
-                            .onErrorResume(ex -> {
-                                log.error(NotificationServiceConstants.LOG_NOT_SAVED, ex.getMessage());
-                                return Mono.error(new DatabaseOperationException(NotificationServiceConstants.EX_NEW_BID));
-                            });
-                })
-                .then();
+                    return notification;
+                });
     }
 }
@@ -1,5 +1,6 @@
 package com.maria.service;
 
+import com.maria.dto.NotificationPage;
 import com.maria.entity.Notification;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -7,9 +8,13 @@ import reactor.core.publisher.Mono;
 public interface NotificationService {
     Flux<Notification> getNotificationForUser(Long userId);
 
+    Mono<NotificationPage> getNotificationFeed(Long userId, String cursor, int limit);
+
+    Mono<Void> markAuctionRead(Long userId, Long auctionId);
+
     Mono<Void> deleteNotificationForUser(String notificationId, Long userId);
 
-    Flux<Void> removeNotificationsByAuction(Long auctionId);
+    Mono<Long> removeNotificationsByAuction(Long auctionId);
 
     Mono<Void> deleteNotificationInService(String notificationId);
 
@@ -1,6 +1,8 @@
 package com.maria.service;
 
 import com.maria.constant.NotificationServiceConstants;
+import com.maria.constant.NotificationStorageMode;
+import com.maria.dto.NotificationPage;
 import com.maria.entity.Notification;
 import com.maria.exception.*;
 import com.maria.repository.NotificationRepository;
@@ -19,16 +21,36 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
+    private final NotificationFeedService notificationFeedService;
+    private final NotificationInboxService notificationInboxService;
     private final WebClient webClient;
     @Value("${url.bid-service-find-users}")
     private String bidServiceFindUsersUrl;
+    @Value("${notification-storage.mode}")
+    private NotificationStorageMode storageMode;
+    @Value("${notification-feed.default-limit}")
+    private int feedDefaultLimit;
 
     @Override
     public Flux<Notification> getNotificationForUser(Long userId) {
+        if (storageMode == NotificationStorageMode.FAN_OUT_ON_READ) {
+            return notificationFeedService.getFeed(userId, null, feedDefaultLimit)
+                    .flatMapIterable(NotificationPage::getNotifications);
+        }
         return notificationRepository.findByUserId(userId)
                 .switchIfEmpty(Flux.empty());
     }
 
+    @Override
+    public Mono<NotificationPage> getNotificationFeed(Long userId, String cursor, int limit) {
+        return notificationFeedService.getFeed(userId, cursor, limit);
+    }
+
+    @Override
+    public Mono<Void> markAuctionRead(Long userId, Long auctionId) {
+        return notificationFeedService.markAuctionRead(userId, auctionId);
+    }
+
     @Override
     public Flux<Long> getUserIdForAuctionNotification(Long auctionId) {
         return webClient
@@ -52,16 +74,23 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public Flux<Void> removeNotificationsByAuction(Long auctionId) {
-        return notificationRepository.findByAuctionId(auctionId)
-                .flatMap(notification -> deleteNotificationInService(notification.getId()));
+    public Mono<Long> removeNotificationsByAuction(Long auctionId) {
+        return notificationInboxService.countUnreadByUser(auctionId)
+                .flatMap(unreadByUser -> notificationRepository.deleteByAuctionId(auctionId)
+                        .flatMap(deleted -> notificationInboxService.recordRemoved(unreadByUser).thenReturn(deleted)))
+                .doOnNext(deleted -> log.info(NotificationServiceConstants.LOG_NOTIFICS_DELETED_FOR_AUCTION, deleted, auctionId))
+                .onErrorResume(ex -> {
+                    log.error(NotificationServiceConstants.LOG_FAIL_DELETE_NOTIFIC, ex.getMessage());
+                    return Mono.error(new DatabaseOperationException(NotificationServiceConstants.EX_DELETE_NOTIFIC));
+                });
     }
 
     @Override
     public Mono<Void> deleteNotificationInService(String notificationId) {
         return notificationRepository.findById(notificationId)
                 .switchIfEmpty(Mono.error(new NotificationNotExistException(NotificationServiceConstants.EX_NOTIFIC_NOT_EXIST)))
-                .flatMap(notificationRepository::delete)
+                .flatMap(notification -> notificationRepository.delete(notification)
+                        .then(notificationInboxService.recordRemoved(notification)))
                 .doOnSuccess(success -> log.info(NotificationServiceConstants.LOG_NOTIFIC_DELETED, notificationId))
                 .onErrorResume(ex -> {
                     log.error(NotificationServiceConstants.LOG_FAIL_DELETE_NOTIFIC, ex.getMessage());
@@ -72,7 +101,8 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public Mono<Void> deleteNotificationForUser(String notificationId, Long userId) {
         return notificationAvailableToInteraction(notificationId, userId)
-                .flatMap(notificationRepository::delete)
+                .flatMap(notification -> notificationRepository.delete(notification)
+                        .then(notificationInboxService.recordRemoved(notification)))
                 .doOnSuccess(success -> log.info(NotificationServiceConstants.LOG_NOTIFIC_DELETED, notificationId))
                 .onErrorMap(ex -> {
                     log.error(NotificationServiceConstants.LOG_FAIL_DELETE_NOTIFIC, ex.getMessage());
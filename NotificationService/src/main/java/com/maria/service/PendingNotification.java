@@ -0,0 +1,26 @@
+package com.maria.service;
+
+import com.maria.entity.Notification;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+@RequiredArgsConstructor
+public class PendingNotification {
+    private final Notification notification;
+    private final AtomicInteger remaining;
+    private final Sinks.Empty<Void> persisted;
+
+    public void markSaved() {
+        if (remaining.decrementAndGet() == 0) {
+            persisted.tryEmitEmpty();
+        }
+    }
+
+    public void markFailed(Throwable ex) {
+        persisted.tryEmitError(ex);
+    }
+}
@@ -2,16 +2,52 @@ package com.maria.validator;
 
 import com.maria.constant.NotificationServiceConstants;
 import com.maria.exception.InvalidNotificationIdException;
+import com.maria.exception.InvalidNotificationQueryException;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 @Component
 public class NotificationServiceValidation {
+    @Value("${notification-feed.default-limit}")
+    private int feedDefaultLimit;
+    @Value("${notification-feed.max-limit}")
+    private int feedMaxLimit;
+
     public Mono<String> validateNotificationId(String id) {
         if (!ObjectId.isValid(id)) {
             return Mono.error(new InvalidNotificationIdException(NotificationServiceConstants.INVALID_NOTIFICATION_ID_FORMAT));
         }
         return Mono.just(id);
     }
+
+    public Mono<Long> validateAuctionId(String id) {
+        try {
+            long auctionId = Long.parseLong(id);
+            if (auctionId <= 0) {
+                return Mono.error(new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_AUCTION_ID));
+            }
+            return Mono.just(auctionId);
+        } catch (NumberFormatException ex) {
+            return Mono.error(new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_AUCTION_ID));
+        }
+    }
+
+    public Mono<Integer> validateFeedLimit(Optional<String> limit) {
+        if (limit.isEmpty()) {
+            return Mono.just(feedDefaultLimit);
+        }
+        try {
+            int value = Integer.parseInt(limit.get());
+            if (value <= 0 || value > feedMaxLimit) {
+                return Mono.error(new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_FEED_LIMIT));
+            }
+            return Mono.just(value);
+        } catch (NumberFormatException ex) {
+            return Mono.error(new InvalidNotificationQueryException(NotificationServiceConstants.EX_INVALID_FEED_LIMIT));
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package com.maria.service;
+
+import com.maria.NotificationsServiceApplication;
+import com.maria.constant.NotificationServiceConstants;
+import com.maria.dto.NotificationPage;
+import com.maria.entity.Notification;
+import com.maria.repository.NotificationRepository;
+import com.maria.repository.NotificationUnreadCounterRepository;
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@ActiveProfiles("integration-test")
+@SpringBootTest(classes = NotificationsServiceApplication.class)
+@Testcontainers
+public class NotificationKafkaServiceBenchmarkTest {
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private NotificationInboxService notificationInboxService;
+    @Autowired
+    private NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
+
+    @BeforeEach
+    private void initialize() {
+        notificationRepository.deleteAll().block();
+        notificationUnreadCounterRepository.deleteAll().block();
+    }
+
+    @DynamicPropertySource
+    public static void kafkaProp(DynamicPropertyRegistry registry){
+        registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.redis.host", redisContainer::getHost);
+        registry.add("spring.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+    }
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
+
+    @Container
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    @BeforeAll
+    static void startContainers() {
+        kafkaContainer.start();
+        mongoDBContainer.start();
+    }
+
+    @AfterAll
+    static void stopKafka() {
+        kafkaContainer.stop();
+    }
+
+    @Test
+    void notificationBatchInsert_UnorderedBulkInsertVersusPerDocumentSaves() {
+        int documentCount = 20_000;
+        Long auctionId = 100L;
+
+        long perDocumentStart = System.nanoTime();
+        Flux.range(0, documentCount)
+                .map(userId -> createNotification(auctionId, userId.longValue()))
+                .flatMap(notificationRepository::save)
+                .blockLast();
+        Duration perDocument = Duration.ofNanos(System.nanoTime() - perDocumentStart);
+
+        notificationRepository.deleteAll().block();
+
+        long batchedStart = System.nanoTime();
+        Integer inserted = Flux.range(0, documentCount)
+                .map(userId -> createNotification(auctionId, userId.longValue()))
+                .buffer(500)
+                .concatMap(notificationRepository::insertUnordered)
+                .reduce(0, Integer::sum)
+                .block();
+        Duration batched = Duration.ofNanos(System.nanoTime() - batchedStart);
+
+        System.out.printf("per-document save: %d docs/s, unordered bulk insert: %d docs/s for %d documents%n",
+                documentCount * 1000L / Math.max(1, perDocument.toMillis()),
+                documentCount * 1000L / Math.max(1, batched.toMillis()),
+                documentCount);
+
+        assertEquals(documentCount, inserted);
+    }
+
+    @Test
+    void notificationInbox_FirstPageLatencyWithSmallAndLargeHistory() {
+        Long userId = 42L;
+        LocalDateTime start = LocalDateTime.now().minusDays(1).withNano(0);
+
+        seedInbox(userId, start, 0, 1_000);
+        Duration smallHistory = measureInboxPage(userId);
+
+        seedInbox(userId, start, 1_000, 100_000);
+        Duration largeHistory = measureInboxPage(userId);
+
+        System.out.printf("inbox first page: %d ms with 1k notifications, %d ms with 100k notifications%n",
+                smallHistory.toMillis(), largeHistory.toMillis());
+    }
+
+    private void seedInbox(Long userId, LocalDateTime start, int from, int to) {
+        Flux.range(from, to - from)
+                .map(index -> {
+                    Notification notification = createNotification((long) index % 50, userId);
+                    notification.setTimestamp(start.plusSeconds(index));
+                    notification.setRead(index % 10 != 0);
+                    return notification;
+                })
+                .buffer(1_000)
+                .concatMap(notifications -> notificationRepository.insertUnordered(notifications)
+                        .then(notificationInboxService.recordInserted(notifications)))
+                .blockLast();
+    }
+
+    private Duration measureInboxPage(Long userId) {
+        notificationInboxService.getInbox(userId, null, 20, false).block();
+
+        long start = System.nanoTime();
+        NotificationPage page = notificationInboxService.getInbox(userId, null, 20, false).block();
+        for (int i = 0; i < 10; i++) {
+            page = notificationInboxService.getInbox(userId, page.getNextCursor(), 20, false).block();
+        }
+        return Duration.ofNanos((System.nanoTime() - start) / 11);
+    }
+
+    private Notification createNotification(Long auctionId, Long userId) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setAuctionId(auctionId);
+        notification.setMessage(NotificationServiceConstants.MESSAGE_NEW_BID + BigDecimal.valueOf(200));
+        notification.setTimestamp(LocalDateTime.now());
+        notification.setItemId(1L);
+        notification.setRead(false);
+        return notification;
+    }
+}
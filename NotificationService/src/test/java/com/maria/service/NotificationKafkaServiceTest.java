@@ -3,15 +3,30 @@ package com.maria.service;
 import com.maria.NotificationsServiceApplication;
 import com.maria.constant.NotificationServiceConstants;
 import com.maria.core.entity.*;
+import com.maria.entity.AuctionEvent;
+import com.maria.entity.Notification;
+import com.maria.repository.AuctionEventRepository;
+import com.maria.repository.AuctionFollowRepository;
+import com.maria.dto.NotificationPage;
 import com.maria.repository.NotificationRepository;
+import com.maria.repository.NotificationUnreadCounterRepository;
+import com.redis.testcontainers.RedisContainer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -29,12 +44,24 @@ import reactor.test.StepVerifier;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ActiveProfiles("integration-test")
@@ -45,8 +72,23 @@ public class NotificationKafkaServiceTest {
     private NotificationRepository notificationRepository;
     @MockBean
     private NotificationService notificationService;
-    private ReactiveKafkaProducerTemplate<String, Notification> notificationProducerTemplate;
+    @Autowired
+    private NotificationFeedService notificationFeedService;
+    @Autowired
+    private AuctionEventRepository auctionEventRepository;
+    @Autowired
+    private AuctionFollowRepository auctionFollowRepository;
+    @Autowired
+    private ReactiveRedisTemplate<String, String> stringReactiveRedisTemplate;
+    @Autowired
+    private NotificationInboxService notificationInboxService;
+    @Autowired
+    private AuctionBidderCache auctionBidderCache;
+    @Autowired
+    private NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+    private ReactiveKafkaProducerTemplate<String, Object> notificationProducerTemplate;
     private ReactiveKafkaProducerTemplate<String, AuctionItemEvent> removeAuctionProducerTemplate;
+    private ReactiveKafkaProducerTemplate<String, NewBitEvent> bidProducerTemplate;
     private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.0"));
 
     public <T>ReactiveKafkaProducerTemplate<String, T> createReactiveKafkaProducerTemplate(){
@@ -62,19 +104,29 @@ public class NotificationKafkaServiceTest {
     private void initialize() {
         this.notificationProducerTemplate = createReactiveKafkaProducerTemplate();
         this.removeAuctionProducerTemplate = createReactiveKafkaProducerTemplate();
+        this.bidProducerTemplate = createReactiveKafkaProducerTemplate();
 
         notificationRepository.deleteAll().block();
+        auctionEventRepository.deleteAll().block();
+        auctionFollowRepository.deleteAll().block();
+        notificationUnreadCounterRepository.deleteAll().block();
+        stringReactiveRedisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
     }
 
     @DynamicPropertySource
     public static void kafkaProp(DynamicPropertyRegistry registry){
         registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.redis.host", redisContainer::getHost);
+        registry.add("spring.redis.port", () -> redisContainer.getMappedPort(6379).toString());
     }
 
     @Container
     static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
 
+    @Container
+    private static final RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
     @BeforeAll
     static void startContainers() {
         kafkaContainer.start();
@@ -109,7 +161,7 @@ public class NotificationKafkaServiceTest {
                 .assertNext(notifications -> {
                     assertEquals(3, notifications.size());
 
-                    for (com.maria.entity.Notification notification : notifications) {
+                    for (Notification notification : notifications) {
                         assertEquals(4L, notification.getAuctionId());
                         assertTrue(expectedUserIds.contains(notification.getUserId()));
                         assertTrue(notification.getMessage().contains(NotificationServiceConstants.MESSAGE_NEW_BID + notificationEvent.getNewBid()));
@@ -165,7 +217,7 @@ public class NotificationKafkaServiceTest {
                 .assertNext(notifications -> {
                     assertEquals(3, notifications.size());
 
-                    for (com.maria.entity.Notification notification : notifications) {
+                    for (Notification notification : notifications) {
                         assertEquals(8L, notification.getAuctionId());
                         assertTrue(expectedUserIds.contains(notification.getUserId()));
                         assertTrue(notification.getMessage().contains(NotificationServiceConstants.MESSAGE_AUCTION_FINISHED + notificationEvent.getAuctionId()));
@@ -197,8 +249,324 @@ public class NotificationKafkaServiceTest {
                 .expectComplete()
                 .verify();
     }
-}
 
+    @Test
+    void whenBidEventsAreConsumed_thenNotificationRecipientsIncludeEarlierBiddersAndBidServiceIsAskedOnce() {
+        Long auctionId = 12L;
+        when(notificationService.getUserIdForAuctionNotification(auctionId))
+                .thenReturn(Flux.just(7L));
+
+        Flux.just(2L, 5L, 2L)
+                .concatMap(bidderId -> bidProducerTemplate.send("new-bid-events", auctionId.toString(), NewBitEvent.builder()
+                        .auctionId(auctionId)
+                        .bidderId(bidderId)
+                        .bidAmount(BigDecimal.valueOf(100 + bidderId))
+                        .build()))
+                .blockLast();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        NewBidNotificationEvent notificationEvent = NewBidNotificationEvent
+                .builder()
+                .auctionId(auctionId)
+                .newBid(BigDecimal.valueOf(200))
+                .timestamp(LocalDateTime.now())
+                .type(NotificationType.NEW_BID)
+                .bidderId(5L)
+                .build();
+        notificationProducerTemplate.send("new-bid-notification-events", notificationEvent)
+                .block();
+
+        Mono.delay(Duration.ofSeconds(15)).block();
+
+        StepVerifier.create(notificationRepository.findByAuctionId(auctionId).collectList())
+                .assertNext(notifications -> {
+                    assertEquals(3, notifications.size());
+                    assertEquals(Set.of(2L, 5L, 7L), notifications.stream().map(Notification::getUserId).collect(Collectors.toSet()));
+                })
+                .expectComplete()
+                .verify();
+        verify(notificationService, times(1)).getUserIdForAuctionNotification(auctionId);
+    }
+
+    @Test
+    void whenAuctionCloseEventSharesTheBidTopic_thenItIsSkippedAndLaterBidsAreCached() {
+        Long auctionId = 14L;
+        when(notificationService.getUserIdForAuctionNotification(auctionId))
+                .thenReturn(Flux.empty());
+
+        notificationProducerTemplate.send("new-bid-events", auctionId.toString(), AuctionCloseEvent.builder().auctionId(auctionId).build())
+                .then(bidProducerTemplate.send("new-bid-events", auctionId.toString(), NewBitEvent.builder()
+                        .auctionId(auctionId)
+                        .bidderId(5L)
+                        .bidAmount(BigDecimal.valueOf(150))
+                        .build()))
+                .block();
+
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        StepVerifier.create(auctionBidderCache.getBidders(auctionId).collectList())
+                .assertNext(bidders -> assertEquals(List.of(5L), bidders))
+                .expectComplete()
+                .verify();
+        assertTrue(readRecordKeys("new-bid-events.retry-1").stream().noneMatch(auctionId.toString()::equals));
+    }
+
+    @Test
+    void whenNotificationEventsArriveTogether_thenTheyShareOneBulkInsert() {
+        List<Long> auctionIds = List.of(21L, 22L, 23L);
+        auctionIds.forEach(auctionId -> when(notificationService.getUserIdForAuctionNotification(auctionId))
+                .thenReturn(Flux.just(2L, 5L)));
+
+        Flux.fromIterable(auctionIds)
+                .concatMap(auctionId -> notificationProducerTemplate.send("new-bid-notification-events", NewBidNotificationEvent
+                        .builder()
+                        .auctionId(auctionId)
+                        .newBid(BigDecimal.valueOf(200))
+                        .timestamp(LocalDateTime.now())
+                        .type(NotificationType.NEW_BID)
+                        .bidderId(1L)
+                        .build()))
+                .blockLast();
+
+        Mono.delay(Duration.ofSeconds(15)).block();
+
+        ArgumentCaptor<List<Notification>> batches = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, atLeastOnce()).insertUnordered(batches.capture());
+        assertTrue(batches.getAllValues().stream()
+                .anyMatch(batch -> batch.stream().map(Notification::getAuctionId).distinct().count() > 1));
+        auctionIds.forEach(auctionId -> assertEquals(2L, notificationRepository.findByAuctionId(auctionId).count().block()));
+    }
+
+    @Test
+    void whenBulkInsertFails_thenRecordIsRetriedAndLaterNotificationsAreSaved() {
+        when(notificationService.getUserIdForAuctionNotification(31L)).thenReturn(Flux.just(2L));
+        when(notificationService.getUserIdForAuctionNotification(32L)).thenReturn(Flux.just(2L));
+        doReturn(Mono.error(new IllegalStateException("bulk write failed")))
+                .doCallRealMethod()
+                .when(notificationRepository).insertUnordered(anyList());
+
+        notificationProducerTemplate.send("new-bid-notification-events", NewBidNotificationEvent
+                        .builder()
+                        .auctionId(31L)
+                        .newBid(BigDecimal.valueOf(200))
+                        .timestamp(LocalDateTime.now())
+                        .type(NotificationType.NEW_BID)
+                        .bidderId(1L)
+                        .build())
+                .block();
+        Mono.delay(Duration.ofSeconds(10)).block();
+        notificationProducerTemplate.send("new-bid-notification-events", NewBidNotificationEvent
+                        .builder()
+                        .auctionId(32L)
+                        .newBid(BigDecimal.valueOf(300))
+                        .timestamp(LocalDateTime.now())
+                        .type(NotificationType.NEW_BID)
+                        .bidderId(1L)
+                        .build())
+                .block();
+        Mono.delay(Duration.ofSeconds(10)).block();
+
+        assertEquals(1L, notificationRepository.findByAuctionId(31L).count().block());
+        assertEquals(1L, notificationRepository.findByAuctionId(32L).count().block());
+    }
+
+    @Test
+    void notificationBatchInsert_TreatsDuplicateKeyOnlyFailureAsSuccess() {
+        Notification existing = createNotification(40L, 1L);
+        existing.setId(new ObjectId().toHexString());
+        notificationRepository.insertUnordered(List.of(existing)).block();
+
+        List<Notification> retried = new ArrayList<>(List.of(existing, createNotification(40L, 2L)));
+
+        StepVerifier.create(notificationRepository.insertUnordered(retried))
+                .expectNext(1)
+                .expectComplete()
+                .verify();
+        assertEquals(2L, notificationRepository.findByAuctionId(40L).count().block());
+    }
+
+    @Test
+    void notificationBatchInsert_InsertsEveryDocumentInUnorderedChunks() {
+        int documentCount = 2_000;
+        Long auctionId = 100L;
+
+        Integer inserted = Flux.range(0, documentCount)
+                .map(userId -> createNotification(auctionId, userId.longValue()))
+                .buffer(500)
+                .concatMap(notificationRepository::insertUnordered)
+                .reduce(0, Integer::sum)
+                .block();
+
+        assertEquals(documentCount, inserted);
+        StepVerifier.create(notificationRepository.findByAuctionId(auctionId).count())
+                .expectNext((long) documentCount)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void notificationFeed_MergesFollowedAuctionsAndPagesByTimestamp() {
+        Long userId = 7L;
+        LocalDateTime start = LocalDateTime.now().minusMinutes(10).withNano(0);
+
+        notificationFeedService.recordEvent(createAuctionEvent(1L, start), userId).block();
+        notificationFeedService.recordEvent(createAuctionEvent(2L, start.plusMinutes(1)), userId).block();
+        notificationFeedService.recordEvent(createAuctionEvent(1L, start.plusMinutes(2)), null).block();
+        notificationFeedService.recordEvent(createAuctionEvent(3L, start.plusMinutes(3)), 8L).block();
+        notificationFeedService.recordEvent(createAuctionEvent(2L, start.plusMinutes(4)), null).block();
+
+        NotificationPage firstPage = notificationFeedService.getFeed(userId, null, 2).block();
+        assertEquals(2, firstPage.getNotifications().size());
+        assertEquals(2L, firstPage.getNotifications().get(0).getAuctionId());
+        assertEquals(1L, firstPage.getNotifications().get(1).getAuctionId());
+        assertTrue(firstPage.getNotifications().stream().allMatch(notification -> userId.equals(notification.getUserId())));
+
+        NotificationPage secondPage = notificationFeedService.getFeed(userId, firstPage.getNextCursor(), 2).block();
+        assertEquals(2, secondPage.getNotifications().size());
+        assertEquals(start.plusMinutes(1), secondPage.getNotifications().get(0).getTimestamp());
+        assertEquals(start, secondPage.getNotifications().get(1).getTimestamp());
+
+        notificationFeedService.markAuctionRead(userId, 2L).block();
+
+        List<Notification> feed = notificationFeedService.getFeed(userId, null, 10).block().getNotifications();
+        assertEquals(4, feed.size());
+        assertTrue(feed.stream().filter(notification -> notification.getAuctionId().equals(2L)).allMatch(Notification::isRead));
+        assertFalse(feed.stream().filter(notification -> notification.getTimestamp().equals(start.plusMinutes(2))).anyMatch(Notification::isRead));
+        assertEquals(1, notificationFeedService.getFeed(8L, null, 10).block().getNotifications().size());
+    }
+
+    @Test
+    void notificationFeed_KeepsEventsSharingATimestampAcrossPages() {
+        Long userId = 9L;
+        LocalDateTime timestamp = LocalDateTime.now().minusMinutes(5).withNano(0);
+
+        notificationFeedService.recordEvent(createAuctionEvent(4L, timestamp), userId).block();
+        notificationFeedService.recordEvent(createAuctionEvent(5L, timestamp), userId).block();
+        notificationFeedService.recordEvent(createAuctionEvent(6L, timestamp), userId).block();
+
+        NotificationPage firstPage = notificationFeedService.getFeed(userId, null, 2).block();
+        NotificationPage secondPage = notificationFeedService.getFeed(userId, firstPage.getNextCursor(), 2).block();
+
+        assertEquals(2, firstPage.getNotifications().size());
+        assertEquals(1, secondPage.getNotifications().size());
+        assertEquals(Set.of(4L, 5L, 6L), Stream.concat(firstPage.getNotifications().stream(), secondPage.getNotifications().stream())
+                .map(Notification::getAuctionId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void notificationInbox_PagesByKeysetAndTracksUnreadCounter() {
+        Long userId = 42L;
+        LocalDateTime start = LocalDateTime.now().minusDays(1).withNano(0);
 
+        seedInbox(userId, start, 0, 200);
 
+        NotificationPage firstPage = notificationInboxService.getInbox(userId, null, 20, false).block();
+        NotificationPage secondPage = notificationInboxService.getInbox(userId, firstPage.getNextCursor(), 20, false).block();
+        assertEquals(20, firstPage.getNotifications().size());
+        assertEquals(start.plusSeconds(199), firstPage.getNotifications().get(0).getTimestamp());
+        assertEquals(start.plusSeconds(179), secondPage.getNotifications().get(0).getTimestamp());
 
+        NotificationPage unreadPage = notificationInboxService.getInbox(userId, null, 20, true).block();
+        assertTrue(unreadPage.getNotifications().stream().noneMatch(Notification::isRead));
+        assertEquals(20L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+
+        notificationInboxService.markRead(unreadPage.getNotifications().get(0).getId(), userId).block();
+        notificationInboxService.markRead(unreadPage.getNotifications().get(0).getId(), userId).block();
+        assertEquals(19L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+
+        notificationInboxService.markAllRead(userId).block();
+        assertEquals(0L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+        assertTrue(notificationInboxService.getInbox(userId, null, 20, true).block().getNotifications().isEmpty());
+    }
+
+    @Test
+    void notificationInbox_CountsUnreadNotificationsStoredBeforeTheCounterExisted() {
+        Long userId = 43L;
+        List<Notification> existing = List.of(createNotification(50L, userId), createNotification(51L, userId), createNotification(52L, userId));
+        notificationRepository.insertUnordered(existing).block();
+
+        List<Notification> inserted = List.of(createNotification(53L, userId));
+        notificationRepository.insertUnordered(inserted)
+                .then(notificationInboxService.recordInserted(inserted))
+                .block();
+
+        assertEquals(4L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+
+        notificationInboxService.markAllRead(userId).block();
+        assertEquals(0L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+    }
+
+    @Test
+    void notificationInbox_KeepsNotificationInsertedWhileTheCounterIsRebuilt() {
+        Long userId = 44L;
+        List<Notification> existing = List.of(createNotification(60L, userId), createNotification(61L, userId), createNotification(62L, userId));
+        notificationRepository.insertUnordered(existing).block();
+
+        List<Notification> interleaved = List.of(createNotification(63L, userId));
+        AtomicBoolean interleave = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            Mono<Long> count = (Mono<Long>) invocation.callRealMethod();
+            return count.flatMap(unread -> interleave.getAndSet(false)
+                    ? notificationRepository.insertUnordered(interleaved)
+                            .then(notificationInboxService.recordInserted(interleaved))
+                            .thenReturn(unread)
+                    : Mono.just(unread));
+        }).when(notificationRepository).countUnreadByUserId(userId);
+
+        assertEquals(4L, notificationInboxService.getUnreadCount(userId).block().getUnread());
+        assertEquals(4L, notificationUnreadCounterRepository.findById(userId).block().getUnread());
+    }
+
+    private void seedInbox(Long userId, LocalDateTime start, int from, int to) {
+        Flux.range(from, to - from)
+                .map(index -> {
+                    Notification notification = createNotification((long) index % 50, userId);
+                    notification.setTimestamp(start.plusSeconds(index));
+                    notification.setRead(index % 10 != 0);
+                    return notification;
+                })
+                .buffer(1_000)
+                .concatMap(notifications -> notificationRepository.insertUnordered(notifications)
+                        .then(notificationInboxService.recordInserted(notifications)))
+                .blockLast();
+    }
+
+    private List<String> readRecordKeys(String topic) {
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers());
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, "test-" + topic + "-" + System.nanoTime());
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        List<String> keys = new ArrayList<>();
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps)) {
+            consumer.subscribe(List.of(topic));
+            consumer.poll(Duration.ofSeconds(5)).forEach(record -> keys.add(record.key()));
+        }
+        return keys;
+    }
+
+    private AuctionEvent createAuctionEvent(Long auctionId, LocalDateTime timestamp) {
+        AuctionEvent event = new AuctionEvent();
+        event.setAuctionId(auctionId);
+        event.setItemId(auctionId);
+        event.setMessage(NotificationServiceConstants.MESSAGE_NEW_BID + BigDecimal.valueOf(200));
+        event.setTimestamp(timestamp);
+        return event;
+    }
+
+    private Notification createNotification(Long auctionId, Long userId) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setAuctionId(auctionId);
+        notification.setMessage(NotificationServiceConstants.MESSAGE_NEW_BID + BigDecimal.valueOf(200));
+        notification.setTimestamp(LocalDateTime.now());
+        notification.setItemId(1L);
+        notification.setRead(false);
+        return notification;
+    }
+}
@@ -0,0 +1,14 @@
+package com.maria.core.entity;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionCloseEvent {
+    private Long auctionId;
+    private boolean expired;
+    private boolean deleted;
+}
@@ -0,0 +1,20 @@
+package com.maria.core.entity;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionStateEvent {
+    private Long auctionId;
+    private Long sellerId;
+    private BigDecimal currentPrice;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private boolean finished;
+}
@@ -0,0 +1,13 @@
+package com.maria.core.kafka;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeadLetterReplayResponse {
+    private String topic;
+    private long replayed;
+}
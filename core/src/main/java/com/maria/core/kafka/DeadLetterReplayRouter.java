@@ -0,0 +1,64 @@
+package com.maria.core.kafka;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springdoc.core.annotations.RouterOperation;
+import org.springdoc.core.annotations.RouterOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+@Configuration
+@ConditionalOnProperty(prefix = "kafka-client", name = "enabled", havingValue = "true")
+public class DeadLetterReplayRouter {
+    private static final int DEFAULT_REPLAY_MAX_RECORDS = 1000;
+
+    @Bean
+    @RouterOperations({
+            @RouterOperation(
+                    path = "/kafka/dead-letters/{topic}/replay",
+                    method = RequestMethod.POST,
+                    beanClass = DeadLetterReplayer.class,
+                    beanMethod = "replay",
+                    operation = @Operation(
+                            operationId = "replayDeadLetters",
+                            summary = "Replay dead-lettered Kafka records",
+                            description = "Republishes records from the given dead-letter topic to their original topic. Requires the 'X-Internal-Service' header.",
+                            parameters = {
+                                    @Parameter(in = ParameterIn.PATH, name = "topic", description = "Dead-letter topic, e.g. new-bid-events.dlq", required = true),
+                                    @Parameter(in = ParameterIn.QUERY, name = "max", description = "Maximum number of records to replay"),
+                                    @Parameter(in = ParameterIn.HEADER, name = "X-Internal-Service", required = true)
+                            },
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Records replayed"),
+                                    @ApiResponse(responseCode = "400", description = "Topic is not a dead-letter topic")
+                            }
+                    )
+            )
+    })
+    public RouterFunction<ServerResponse> deadLetterReplayRoutes(DeadLetterReplayer deadLetterReplayer) {
+        return RouterFunctions.route(POST("/kafka/dead-letters/{topic}/replay")
+                        .and(request -> "true".equals(request.headers().firstHeader("X-Internal-Service"))),
+                request -> replay(request, deadLetterReplayer));
+    }
+
+    private Mono<ServerResponse> replay(ServerRequest request, DeadLetterReplayer deadLetterReplayer) {
+        String topic = request.pathVariable("topic");
+
+        return Mono.fromCallable(() -> request.queryParam("max").map(Integer::parseInt).orElse(DEFAULT_REPLAY_MAX_RECORDS))
+                .flatMap(maxRecords -> deadLetterReplayer.replay(topic, maxRecords))
+                .flatMap(replayed -> ServerResponse.ok().bodyValue(new DeadLetterReplayResponse(topic, replayed)))
+                .onErrorResume(IllegalArgumentException.class, ex -> ServerResponse.status(HttpStatus.BAD_REQUEST).bodyValue(ex.getMessage()));
+    }
+}
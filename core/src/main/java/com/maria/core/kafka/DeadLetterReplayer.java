@@ -0,0 +1,65 @@
+package com.maria.core.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka-client", name = "enabled", havingValue = "true")
+public class DeadLetterReplayer {
+    private final KafkaClientFactory kafkaClientFactory;
+    @Value("${kafka-client.client-id}")
+    private String clientId;
+    @Value("${kafka-client.listener.replay-idle-timeout-ms}")
+    private long replayIdleTimeoutMs;
+
+    public Mono<Long> replay(String deadLetterTopic, int maxRecords) {
+        if (!deadLetterTopic.endsWith(KafkaClientConstants.DEAD_LETTER_TOPIC_SUFFIX)) {
+            return Mono.error(new IllegalArgumentException(KafkaClientConstants.EX_REPLAY_NOT_DEAD_LETTER_TOPIC));
+        }
+        String sourceTopic = deadLetterTopic.substring(0, deadLetterTopic.length() - KafkaClientConstants.DEAD_LETTER_TOPIC_SUFFIX.length());
+        ReactiveKafkaProducerTemplate<String, Object> producerTemplate = kafkaClientFactory.getProducerTemplate();
+        ReceiverOptions<String, byte[]> receiverOptions = kafkaClientFactory.createRawReceiverOptions(deadLetterTopic, clientId + "-dlq-replay")
+                .consumerProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new ReactiveKafkaConsumerTemplate<>(receiverOptions)
+                .receive()
+                .timeout(Duration.ofMillis(replayIdleTimeoutMs), Flux.empty())
+                .concatMap(record -> producerTemplate.send(toReplayRecord(record, sourceTopic))
+                        .then(record.receiverOffset().commit())
+                        .thenReturn(record))
+                .take(maxRecords)
+                .count()
+                .doOnNext(replayed -> log.info(KafkaClientConstants.LOG_DEAD_LETTERS_REPLAYED, replayed, deadLetterTopic, sourceTopic));
+    }
+
+    private ProducerRecord<String, Object> toReplayRecord(ReceiverRecord<String, byte[]> record, String sourceTopic) {
+        Header originalTopic = record.headers().lastHeader(KafkaClientConstants.HEADER_ORIGINAL_TOPIC);
+        String target = originalTopic != null ? new String(originalTopic.value(), StandardCharsets.UTF_8) : sourceTopic;
+
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("x-")) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(target, null, record.key(), record.value(), headers);
+    }
+}
@@ -0,0 +1,23 @@
+package com.maria.core.kafka;
+
+public final class KafkaClientConstants {
+    public final static String RETRY_TOPIC_SUFFIX = ".retry-";
+    public final static String DEAD_LETTER_TOPIC_SUFFIX = ".dlq";
+    public final static String HEADER_ORIGINAL_TOPIC = "x-original-topic";
+    public final static String HEADER_ORIGINAL_PARTITION = "x-original-partition";
+    public final static String HEADER_ORIGINAL_OFFSET = "x-original-offset";
+    public final static String HEADER_RETRY_ATTEMPT = "x-retry-attempt";
+    public final static String HEADER_RETRY_NOT_BEFORE = "x-retry-not-before";
+    public final static String HEADER_EXCEPTION_CLASS = "x-exception-class";
+    public final static String HEADER_EXCEPTION_MESSAGE = "x-exception-message";
+    public final static String GROUPING_PARTITION = "partition";
+    public final static String GROUPING_NONE = "none";
+    public final static String LOG_PRODUCER_CREATED = "Created shared Kafka producer {} (linger.ms={}, batch.size={}, compression={}, acks={})";
+    public final static String LOG_PRODUCER_CLOSED = "Closed shared Kafka producer {}";
+    public final static String LOG_RECORD_RETRY_SCHEDULED = "Record {}-{}@{} failed ({}), forwarded to {}";
+    public final static String LOG_RECORD_DEAD_LETTERED = "Record {}-{}@{} failed ({}), forwarded to dead-letter topic {}";
+    public final static String LOG_ERROR_LISTENER = "Kafka listener for topic {} failed, resubscribing: {}";
+    public final static String LOG_DEAD_LETTERS_REPLAYED = "Replayed {} records from {} to {}";
+    public final static String EX_TOPIC_WITHOUT_PARTITIONS = "Topic %s has no partitions yet";
+    public final static String EX_REPLAY_NOT_DEAD_LETTER_TOPIC = "Replay is only supported for dead-letter topics ending with " + DEAD_LETTER_TOPIC_SUFFIX;
+}
@@ -0,0 +1,179 @@
+package com.maria.core.kafka;
+
+import com.maria.core.serde.EventDeserializer;
+import com.maria.core.serde.EventSerializer;
+import com.maria.core.serde.SerdeConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.stereotype.Component;
+import reactor.kafka.receiver.MicrometerConsumerListener;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverPartition;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.MicrometerProducerListener;
+import reactor.kafka.sender.SenderOptions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka-client", name = "enabled", havingValue = "true")
+public class KafkaClientFactory {
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private ReactiveKafkaProducerTemplate<String, Object> producerTemplate;
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+    @Value("${kafka-client.client-id}")
+    private String clientId;
+    @Value("${kafka-client.producer.linger-ms}")
+    private int lingerMs;
+    @Value("${kafka-client.producer.batch-size}")
+    private int batchSize;
+    @Value("${kafka-client.producer.compression-type}")
+    private String compressionType;
+    @Value("${kafka-client.producer.acks}")
+    private String acks;
+    @Value("${kafka-client.producer.idempotence}")
+    private boolean idempotence;
+    @Value("${kafka-client.producer.binary-topics}")
+    private String binaryTopics;
+    @Value("${kafka-client.consumer.max-poll-records}")
+    private int maxPollRecords;
+    @Value("${kafka-client.consumer.fetch-min-bytes}")
+    private int fetchMinBytes;
+    @Value("${kafka-client.consumer.fetch-max-wait-ms}")
+    private int fetchMaxWaitMs;
+    @Value("${kafka-client.consumer.commit-interval-ms}")
+    private long commitIntervalMs;
+    @Value("${kafka-client.consumer.commit-batch-size}")
+    private int commitBatchSize;
+
+    @PostConstruct
+    public void initialize() {
+        SenderOptions<String, Object> senderOptions = SenderOptions.create(createProducerProps(EventSerializer.class));
+        producerTemplate = new ReactiveKafkaProducerTemplate<>(withMetrics(senderOptions));
+        log.info(KafkaClientConstants.LOG_PRODUCER_CREATED, clientId, lingerMs, batchSize, compressionType, acks);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        producerTemplate.close();
+        log.info(KafkaClientConstants.LOG_PRODUCER_CLOSED, clientId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ReactiveKafkaProducerTemplate<String, T> getProducerTemplate() {
+        return (ReactiveKafkaProducerTemplate<String, T>) (ReactiveKafkaProducerTemplate<String, ?>) producerTemplate;
+    }
+
+    public KafkaSender<String, Object> createEventSender() {
+        Map<String, Object> producerProps = createProducerProps(EventSerializer.class);
+        producerProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-sender");
+        SenderOptions<String, Object> senderOptions = SenderOptions.create(producerProps);
+        return KafkaSender.create(withMetrics(senderOptions));
+    }
+
+    public <T> ReactiveKafkaConsumerTemplate<String, T> createReplayConsumerTemplate(String topic, Class<T> targetType) {
+        Map<String, Object> consumerProps = createConsumerProps(EventDeserializer.class, null);
+        consumerProps.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        consumerProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
+        ReceiverOptions<String, T> receiverOptions = ReceiverOptions.<String, T>create(consumerProps)
+                .assignment(findPartitions(topic, consumerProps))
+                .addAssignListener(partitions -> partitions.forEach(ReceiverPartition::seekToBeginning));
+
+        return new ReactiveKafkaConsumerTemplate<>(withMetrics(receiverOptions));
+    }
+
+    public Map<TopicPartition, Long> findEndOffsets(String topic) {
+        Map<String, Object> consumerProps = createConsumerProps(ByteArrayDeserializer.class, null);
+        consumerProps.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps, new StringDeserializer(), new ByteArrayDeserializer())) {
+            return consumer.endOffsets(findPartitions(topic, consumerProps));
+        }
+    }
+
+    public ReceiverOptions<String, byte[]> createRawReceiverOptions(String topic, String groupId) {
+        ReceiverOptions<String, byte[]> receiverOptions = ReceiverOptions.<String, byte[]>create(createConsumerProps(ByteArrayDeserializer.class, groupId))
+                .commitInterval(Duration.ofMillis(commitIntervalMs))
+                .commitBatchSize(commitBatchSize)
+                .subscription(Collections.singleton(topic));
+
+        return withMetrics(receiverOptions);
+    }
+
+    private List<TopicPartition> findPartitions(String topic, Map<String, Object> consumerProps) {
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps, new StringDeserializer(), new ByteArrayDeserializer())) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            if (partitions == null || partitions.isEmpty()) {
+                throw new IllegalStateException(String.format(KafkaClientConstants.EX_TOPIC_WITHOUT_PARTITIONS, topic));
+            }
+            return partitions.stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .toList();
+        }
+    }
+
+    private Map<String, Object> createProducerProps(Class<?> valueSerializer) {
+        Map<String, Object> producerProps = new HashMap<>();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        producerProps.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-" + valueSerializer.getSimpleName());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        producerProps.put(ProducerConfig.ACKS_CONFIG, acks);
+        producerProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        producerProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        producerProps.put(SerdeConstants.BINARY_TOPICS_CONFIG, binaryTopics);
+
+        return producerProps;
+    }
+
+    private Map<String, Object> createConsumerProps(Class<?> valueDeserializer, String groupId) {
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        consumerProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        consumerProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+
+        return consumerProps;
+    }
+
+    private <K, V> SenderOptions<K, V> withMetrics(SenderOptions<K, V> senderOptions) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        return meterRegistry != null ? senderOptions.producerListener(new MicrometerProducerListener(meterRegistry)) : senderOptions;
+    }
+
+    private <K, V> ReceiverOptions<K, V> withMetrics(ReceiverOptions<K, V> receiverOptions) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        return meterRegistry != null ? receiverOptions.consumerListener(new MicrometerConsumerListener(meterRegistry)) : receiverOptions;
+    }
+}
@@ -0,0 +1,21 @@
+package com.maria.core.kafka;
+
+import lombok.Builder;
+import lombok.Getter;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+@Getter
+@Builder
+public class KafkaListenerOptions<T> {
+    @Builder.Default
+    private final String grouping = KafkaClientConstants.GROUPING_PARTITION;
+    private final Integer concurrency;
+    @Builder.Default
+    private final BiConsumer<T, ReceiverOffset> acknowledger = (event, offset) -> offset.acknowledge();
+    @Builder.Default
+    private final UnaryOperator<ReceiverOptions<String, byte[]>> customizer = UnaryOperator.identity();
+}
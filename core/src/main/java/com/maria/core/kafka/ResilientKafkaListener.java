@@ -0,0 +1,168 @@
+package com.maria.core.kafka;
+
+import com.maria.core.serde.EventDeserializer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.reactive.ReactiveKafkaConsumerTemplate;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka-client", name = "enabled", havingValue = "true")
+public class ResilientKafkaListener {
+    private final KafkaClientFactory kafkaClientFactory;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private ReactiveKafkaProducerTemplate<String, Object> producerTemplate;
+    private long[] retryDelaysMs;
+    @Value("${kafka-client.listener.concurrency}")
+    private int defaultConcurrency;
+    @Value("${kafka-client.listener.max-deferred-commits}")
+    private int maxDeferredCommits;
+    @Value("${kafka-client.listener.retry-delays-ms}")
+    private String retryDelays;
+
+    @PostConstruct
+    public void initialize() {
+        producerTemplate = kafkaClientFactory.getProducerTemplate();
+        retryDelaysMs = Arrays.stream(retryDelays.split(","))
+                .map(String::trim)
+                .filter(delay -> !delay.isEmpty())
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+    }
+
+    public <T> void listen(String topic, Class<T> targetType, String groupId, Function<T, Mono<Void>> handler) {
+        listen(topic, targetType, groupId, handler, KafkaListenerOptions.<T>builder().build());
+    }
+
+    public <T> void listen(String topic, Class<T> targetType, String groupId, Function<T, Mono<Void>> handler, KafkaListenerOptions<T> options) {
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName()), false);
+        int concurrency = options.getConcurrency() != null ? options.getConcurrency() : defaultConcurrency;
+
+        subscribe(topic, receiverOptions(topic, groupId, options), options.getGrouping(), concurrency,
+                record -> process(record, topic, 0, deserializer, handler, options.getAcknowledger()));
+
+        for (int attempt = 1; attempt <= retryDelaysMs.length; attempt++) {
+            int currentAttempt = attempt;
+            String retryTopic = retryTopic(topic, attempt);
+            subscribe(retryTopic, receiverOptions(retryTopic, groupId + KafkaClientConstants.RETRY_TOPIC_SUFFIX + attempt, options),
+                    KafkaClientConstants.GROUPING_PARTITION, concurrency,
+                    record -> awaitRetry(record)
+                            .then(process(record, topic, currentAttempt, deserializer, handler, options.getAcknowledger())));
+        }
+    }
+
+    private ReceiverOptions<String, byte[]> receiverOptions(String topic, String groupId, KafkaListenerOptions<?> options) {
+        return options.getCustomizer().apply(kafkaClientFactory.createRawReceiverOptions(topic, groupId)
+                .maxDeferredCommits(maxDeferredCommits));
+    }
+
+    private void subscribe(String topic, ReceiverOptions<String, byte[]> receiverOptions, String grouping, int concurrency,
+                           Function<ReceiverRecord<String, byte[]>, Mono<Void>> processor) {
+        Flux<ReceiverRecord<String, byte[]>> records = new ReactiveKafkaConsumerTemplate<>(receiverOptions).receive();
+        Flux<Void> processed = KafkaClientConstants.GROUPING_NONE.equals(grouping)
+                ? records.flatMap(processor, concurrency)
+                : records.groupBy(record -> processingGroup(record, grouping, concurrency))
+                        .flatMap(group -> group.concatMap(processor), concurrency);
+
+        disposables.add(processed
+                .doOnError(ex -> log.error(KafkaClientConstants.LOG_ERROR_LISTENER, topic, ex.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe());
+    }
+
+    private int processingGroup(ReceiverRecord<String, byte[]> record, String grouping, int concurrency) {
+        if (!KafkaClientConstants.GROUPING_PARTITION.equals(grouping) && record.key() != null) {
+            return Math.floorMod(record.key().hashCode(), concurrency);
+        }
+        return record.partition() % concurrency;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<Void> process(ReceiverRecord<String, byte[]> record, String topic, int attempt, EventDeserializer deserializer,
+                                   Function<T, Mono<Void>> handler, BiConsumer<T, ReceiverOffset> acknowledger) {
+        return Mono.fromCallable(() -> (T) deserializer.deserialize(record.topic(), record.headers(), record.value()))
+                .flatMap(event -> handler.apply(event).thenReturn(event))
+                .doOnNext(event -> acknowledger.accept(event, record.receiverOffset()))
+                .switchIfEmpty(Mono.fromRunnable(() -> record.receiverOffset().acknowledge()))
+                .onErrorResume(ex -> forward(record, topic, attempt, ex)
+                        .then(Mono.fromRunnable(() -> record.receiverOffset().acknowledge())))
+                .then();
+    }
+
+    private Mono<Void> forward(ReceiverRecord<String, byte[]> record, String topic, int attempt, Throwable ex) {
+        boolean retryable = !(ex instanceof SerializationException) && attempt < retryDelaysMs.length;
+        String target = retryable ? retryTopic(topic, attempt + 1) : topic + KafkaClientConstants.DEAD_LETTER_TOPIC_SUFFIX;
+
+        Headers headers = new RecordHeaders(record.headers().toArray());
+        if (attempt == 0) {
+            setHeader(headers, KafkaClientConstants.HEADER_ORIGINAL_TOPIC, record.topic());
+            setHeader(headers, KafkaClientConstants.HEADER_ORIGINAL_PARTITION, String.valueOf(record.partition()));
+            setHeader(headers, KafkaClientConstants.HEADER_ORIGINAL_OFFSET, String.valueOf(record.offset()));
+        }
+        setHeader(headers, KafkaClientConstants.HEADER_EXCEPTION_CLASS, ex.getClass().getName());
+        setHeader(headers, KafkaClientConstants.HEADER_EXCEPTION_MESSAGE, String.valueOf(ex.getMessage()));
+        if (retryable) {
+            setHeader(headers, KafkaClientConstants.HEADER_RETRY_ATTEMPT, String.valueOf(attempt + 1));
+            setHeader(headers, KafkaClientConstants.HEADER_RETRY_NOT_BEFORE, String.valueOf(System.currentTimeMillis() + retryDelaysMs[attempt]));
+            log.warn(KafkaClientConstants.LOG_RECORD_RETRY_SCHEDULED, record.topic(), record.partition(), record.offset(), ex.getMessage(), target);
+        } else {
+            log.error(KafkaClientConstants.LOG_RECORD_DEAD_LETTERED, record.topic(), record.partition(), record.offset(), ex.getMessage(), target);
+        }
+
+        return producerTemplate.send(new ProducerRecord<>(target, null, record.key(), (Object) record.value(), headers))
+                .then();
+    }
+
+    private Mono<Void> awaitRetry(ReceiverRecord<String, byte[]> record) {
+        Header notBefore = record.headers().lastHeader(KafkaClientConstants.HEADER_RETRY_NOT_BEFORE);
+        long delayMs = notBefore != null
+                ? Long.parseLong(new String(notBefore.value(), StandardCharsets.UTF_8)) - System.currentTimeMillis()
+                : 0;
+        return delayMs > 0 ? Mono.delay(Duration.ofMillis(delayMs)).then() : Mono.empty();
+    }
+
+    private void setHeader(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String retryTopic(String topic, int attempt) {
+        return topic + KafkaClientConstants.RETRY_TOPIC_SUFFIX + attempt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.maria.core.outbox;
+
+public final class OutboxConstants {
+    public final static String HEADER_TYPE_ID = "__TypeId__";
+    public final static String HEADER_OUTBOX_ID = "outbox-id";
+    public final static String LOG_OUTBOX_RELAYED = "Relayed {} outbox events";
+    public final static String LOG_FAIL_RELAY_OUTBOX = "Failed to relay outbox events: {}";
+    public final static String LOG_FAIL_WRITE_OUTBOX = "Failed to write outbox event for topic {}: {}";
+    public final static String LOG_OUTBOX_PAYLOAD_AS_JSON = "Relaying outbox event {} as stored JSON: {}";
+}
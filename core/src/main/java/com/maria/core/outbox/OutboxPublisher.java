@@ -0,0 +1,43 @@
+package com.maria.core.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+public class OutboxPublisher {
+    private final ObjectMapper outboxObjectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final DatabaseClient databaseClient;
+    @Value("${outbox.source}")
+    private String source;
+
+    public Mono<Void> publish(String topic, String key, Object event) {
+        return Mono.fromCallable(() -> outboxObjectMapper.writeValueAsString(event))
+                .flatMap(payload -> {
+                    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                                    INSERT INTO outbox_event (source, topic, event_key, payload_type, payload)
+                                    VALUES (:source, :topic, :eventKey, :payloadType, :payload)
+                                    """)
+                            .bind("source", source)
+                            .bind("topic", topic)
+                            .bind("payloadType", event.getClass().getName())
+                            .bind("payload", payload);
+                    spec = key == null ? spec.bindNull("eventKey", String.class) : spec.bind("eventKey", key);
+                    return spec.fetch().rowsUpdated();
+                })
+                .doOnError(ex -> log.error(OutboxConstants.LOG_FAIL_WRITE_OUTBOX, topic, ex.getMessage()))
+                .then();
+    }
+}
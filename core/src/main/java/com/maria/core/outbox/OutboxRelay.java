@@ -0,0 +1,146 @@
+package com.maria.core.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maria.core.kafka.KafkaClientFactory;
+import com.maria.core.serde.EventCodecRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final KafkaClientFactory kafkaClientFactory;
+    private final Disposable.Composite disposables = Disposables.composite();
+    private final ObjectMapper outboxObjectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+    private KafkaSender<String, Object> sender;
+    @Value("${outbox.source}")
+    private String source;
+    @Value("${outbox.batch-size}")
+    private int batchSize;
+    @Value("${outbox.poll-interval-ms}")
+    private long pollIntervalMs;
+
+    @PostConstruct
+    public void initialize() {
+        sender = kafkaClientFactory.createEventSender();
+
+        disposables.add(
+                Flux.interval(Duration.ofMillis(pollIntervalMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> relayPending())
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disposables.dispose();
+        sender.close();
+    }
+
+    private Mono<Integer> relayPending() {
+        return relayBatch()
+                .expand(relayed -> relayed == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0, Integer::sum)
+                .doOnNext(relayed -> {
+                    if (relayed > 0) {
+                        log.debug(OutboxConstants.LOG_OUTBOX_RELAYED, relayed);
+                    }
+                })
+                .onErrorResume(ex -> {
+                    log.error(OutboxConstants.LOG_FAIL_RELAY_OUTBOX, ex.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    private Mono<Integer> relayBatch() {
+        return databaseClient.sql("SELECT pg_try_advisory_xact_lock(hashtext(:source)) AS locked")
+                .bind("source", source)
+                .map((row, metadata) -> Boolean.TRUE.equals(row.get("locked", Boolean.class)))
+                .one()
+                .flatMap(locked -> locked ? relayLockedBatch() : Mono.just(0))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Integer> relayLockedBatch() {
+        return databaseClient.sql("""
+                        SELECT id, topic, event_key, payload_type, payload FROM outbox_event
+                        WHERE source = :source
+                        ORDER BY id
+                        LIMIT :limit
+                        """)
+                .bind("source", source)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> OutboxEvent.builder()
+                        .id(row.get("id", Long.class))
+                        .topic(row.get("topic", String.class))
+                        .eventKey(row.get("event_key", String.class))
+                        .payloadType(row.get("payload_type", String.class))
+                        .payload(row.get("payload", String.class))
+                        .build())
+                .all()
+                .collectList()
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0)
+                        : send(events).then(delete(events)).thenReturn(events.size()));
+    }
+
+    private Mono<Void> send(List<OutboxEvent> events) {
+        return sender.send(Flux.fromIterable(events).map(event -> SenderRecord.create(toProducerRecord(event), event.getId())))
+                .then();
+    }
+
+    private Mono<Long> delete(List<OutboxEvent> events) {
+        return databaseClient.sql("DELETE FROM outbox_event WHERE id = ANY(:ids)")
+                .bind("ids", events.stream().map(OutboxEvent::getId).toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private ProducerRecord<String, Object> toProducerRecord(OutboxEvent event) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(OutboxConstants.HEADER_OUTBOX_ID, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        Object value = toEvent(event);
+        if (value == null) {
+            headers.add(OutboxConstants.HEADER_TYPE_ID, event.getPayloadType().getBytes(StandardCharsets.UTF_8));
+            value = event.getPayload().getBytes(StandardCharsets.UTF_8);
+        }
+
+        return new ProducerRecord<>(event.getTopic(), null, event.getEventKey(), value, headers);
+    }
+
+    private Object toEvent(OutboxEvent event) {
+        try {
+            Class<?> type = Class.forName(event.getPayloadType());
+            return EventCodecRegistry.supports(type) ? outboxObjectMapper.readValue(event.getPayload(), type) : null;
+        } catch (ClassNotFoundException | JsonProcessingException ex) {
+            log.warn(OutboxConstants.LOG_OUTBOX_PAYLOAD_AS_JSON, event.getId(), ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.AcceptanceEvent;
+
+public class AcceptanceEventCodec implements EventCodec<AcceptanceEvent> {
+    @Override
+    public byte typeId() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<AcceptanceEvent> type() {
+        return AcceptanceEvent.class;
+    }
+
+    @Override
+    public void write(AcceptanceEvent event, BinaryEventWriter writer) {
+        writer.writeLong(event.getAuctionId());
+        writer.writeLong(event.getUserId());
+        writer.writeBoolean(event.isAcceptance());
+    }
+
+    @Override
+    public AcceptanceEvent read(BinaryEventReader reader, int version) {
+        return AcceptanceEvent.builder()
+                .auctionId(reader.readLong())
+                .userId(reader.readLong())
+                .acceptance(reader.readBoolean())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.AuctionFinishedNotificationEvent;
+
+public class AuctionFinishedNotificationEventCodec implements EventCodec<AuctionFinishedNotificationEvent> {
+    @Override
+    public byte typeId() {
+        return 7;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<AuctionFinishedNotificationEvent> type() {
+        return AuctionFinishedNotificationEvent.class;
+    }
+
+    @Override
+    public void write(AuctionFinishedNotificationEvent event, BinaryEventWriter writer) {
+        writer.writeDateTime(event.getTimestamp());
+        writer.writeLong(event.getAuctionId());
+        writer.writeLong(event.getItemId());
+        writer.writeDecimal(event.getFinalPrice());
+    }
+
+    @Override
+    public AuctionFinishedNotificationEvent read(BinaryEventReader reader, int version) {
+        return AuctionFinishedNotificationEvent.builder()
+                .timestamp(reader.readDateTime())
+                .auctionId(reader.readLong())
+                .itemId(reader.readLong())
+                .finalPrice(reader.readDecimal())
+                .build();
+    }
+}
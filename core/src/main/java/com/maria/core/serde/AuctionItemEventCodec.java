@@ -0,0 +1,34 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.AuctionItemEvent;
+
+public class AuctionItemEventCodec implements EventCodec<AuctionItemEvent> {
+    @Override
+    public byte typeId() {
+        return 4;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<AuctionItemEvent> type() {
+        return AuctionItemEvent.class;
+    }
+
+    @Override
+    public void write(AuctionItemEvent event, BinaryEventWriter writer) {
+        writer.writeLong(event.getAuctionId());
+        writer.writeLong(event.getItemId());
+    }
+
+    @Override
+    public AuctionItemEvent read(BinaryEventReader reader, int version) {
+        return AuctionItemEvent.builder()
+                .auctionId(reader.readLong())
+                .itemId(reader.readLong())
+                .build();
+    }
+}
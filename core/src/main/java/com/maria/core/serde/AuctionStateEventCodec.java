@@ -0,0 +1,42 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.AuctionStateEvent;
+
+public class AuctionStateEventCodec implements EventCodec<AuctionStateEvent> {
+    @Override
+    public byte typeId() {
+        return 5;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<AuctionStateEvent> type() {
+        return AuctionStateEvent.class;
+    }
+
+    @Override
+    public void write(AuctionStateEvent event, BinaryEventWriter writer) {
+        writer.writeLong(event.getAuctionId());
+        writer.writeLong(event.getSellerId());
+        writer.writeDecimal(event.getCurrentPrice());
+        writer.writeDateTime(event.getStartDate());
+        writer.writeDateTime(event.getEndDate());
+        writer.writeBoolean(event.isFinished());
+    }
+
+    @Override
+    public AuctionStateEvent read(BinaryEventReader reader, int version) {
+        return AuctionStateEvent.builder()
+                .auctionId(reader.readLong())
+                .sellerId(reader.readLong())
+                .currentPrice(reader.readDecimal())
+                .startDate(reader.readDateTime())
+                .endDate(reader.readDateTime())
+                .finished(reader.readBoolean())
+                .build();
+    }
+}
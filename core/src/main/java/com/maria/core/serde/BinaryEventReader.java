@@ -0,0 +1,83 @@
+package com.maria.core.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+public class BinaryEventReader {
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new SerializationException(SerdeConstants.EX_TRUNCATED_EVENT);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public byte[] readBytes(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException(SerdeConstants.EX_TRUNCATED_EVENT);
+        }
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long zigZag = 0;
+        int shift = 0;
+        int current;
+        do {
+            if (shift > 63) {
+                throw new SerializationException(SerdeConstants.EX_TRUNCATED_EVENT);
+            }
+            current = readByte();
+            zigZag |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public Long readLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    public BigDecimal readDecimal() {
+        int encoding = readByte();
+        if (encoding == 0) {
+            return null;
+        }
+        int scale = (int) readVarLong();
+        if (encoding == 1) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        return new BigDecimal(new BigInteger(readBytes((int) readVarLong())), scale);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(), ZoneOffset.UTC);
+    }
+
+    public String readString() {
+        return readBoolean() ? new String(readBytes((int) readVarLong()), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.maria.core.serde;
+
+public interface EventCodec<T> {
+    byte typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T event, BinaryEventWriter writer);
+
+    T read(BinaryEventReader reader, int version);
+}
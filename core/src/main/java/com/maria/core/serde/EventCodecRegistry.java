@@ -0,0 +1,68 @@
+package com.maria.core.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class EventCodecRegistry {
+    private static final Map<Class<?>, EventCodec<?>> CODECS_BY_TYPE = new HashMap<>();
+    private static final EventCodec<?>[] CODECS_BY_ID = new EventCodec<?>[256];
+
+    static {
+        List.of(
+                new NewBitEventCodec(),
+                new AcceptanceEventCodec(),
+                new InvitationEventCodec(),
+                new AuctionItemEventCodec(),
+                new AuctionStateEventCodec(),
+                new NewBidNotificationEventCodec(),
+                new AuctionFinishedNotificationEventCodec()
+        ).forEach(EventCodecRegistry::register);
+    }
+
+    private EventCodecRegistry() {
+    }
+
+    private static void register(EventCodec<?> codec) {
+        int typeId = codec.typeId() & 0xFF;
+        if (CODECS_BY_ID[typeId] != null) {
+            throw new IllegalStateException(String.format(SerdeConstants.EX_DUPLICATE_TYPE_ID, typeId));
+        }
+        CODECS_BY_ID[typeId] = codec;
+        CODECS_BY_TYPE.put(codec.type(), codec);
+    }
+
+    public static boolean supports(Class<?> type) {
+        return CODECS_BY_TYPE.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static byte[] encode(Object event) {
+        EventCodec<Object> codec = (EventCodec<Object>) CODECS_BY_TYPE.get(event.getClass());
+        BinaryEventWriter writer = new BinaryEventWriter(64);
+        writer.writeByte(SerdeConstants.MAGIC);
+        writer.writeByte(codec.typeId());
+        writer.writeByte(codec.version());
+        codec.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data.length >= SerdeConstants.HEADER_LENGTH && data[0] == SerdeConstants.MAGIC;
+    }
+
+    public static Object decode(byte[] data) {
+        int typeId = data[1] & 0xFF;
+        int version = data[2] & 0xFF;
+        EventCodec<?> codec = CODECS_BY_ID[typeId];
+        if (codec == null) {
+            throw new SerializationException(String.format(SerdeConstants.EX_UNKNOWN_EVENT_TYPE, typeId));
+        }
+        if (version > codec.version()) {
+            throw new SerializationException(String.format(SerdeConstants.EX_UNSUPPORTED_VERSION, version, codec.type().getSimpleName()));
+        }
+        return codec.read(new BinaryEventReader(data, SerdeConstants.HEADER_LENGTH), version);
+    }
+}
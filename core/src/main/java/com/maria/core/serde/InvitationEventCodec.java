@@ -0,0 +1,36 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.InvitationEvent;
+
+public class InvitationEventCodec implements EventCodec<InvitationEvent> {
+    @Override
+    public byte typeId() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<InvitationEvent> type() {
+        return InvitationEvent.class;
+    }
+
+    @Override
+    public void write(InvitationEvent event, BinaryEventWriter writer) {
+        writer.writeLong(event.getAuctionId());
+        writer.writeLong(event.getSellerId());
+        writer.writeLong(event.getUserId());
+    }
+
+    @Override
+    public InvitationEvent read(BinaryEventReader reader, int version) {
+        return InvitationEvent.builder()
+                .auctionId(reader.readLong())
+                .sellerId(reader.readLong())
+                .userId(reader.readLong())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.NewBidNotificationEvent;
+import com.maria.core.entity.NotificationType;
+
+public class NewBidNotificationEventCodec implements EventCodec<NewBidNotificationEvent> {
+    @Override
+    public byte typeId() {
+        return 6;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<NewBidNotificationEvent> type() {
+        return NewBidNotificationEvent.class;
+    }
+
+    @Override
+    public void write(NewBidNotificationEvent event, BinaryEventWriter writer) {
+        writer.writeDateTime(event.getTimestamp());
+        writer.writeLong(event.getAuctionId());
+        writer.writeDecimal(event.getNewBid());
+        writer.writeString(event.getType() != null ? event.getType().name() : null);
+        writer.writeLong(event.getItemId());
+        writer.writeLong(event.getBidderId());
+    }
+
+    @Override
+    public NewBidNotificationEvent read(BinaryEventReader reader, int version) {
+        return NewBidNotificationEvent.builder()
+                .timestamp(reader.readDateTime())
+                .auctionId(reader.readLong())
+                .newBid(reader.readDecimal())
+                .type(readType(reader))
+                .itemId(reader.readLong())
+                .bidderId(reader.readLong())
+                .build();
+    }
+
+    private NotificationType readType(BinaryEventReader reader) {
+        String type = reader.readString();
+        return type != null ? NotificationType.valueOf(type) : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.NewBitEvent;
+
+public class NewBitEventCodec implements EventCodec<NewBitEvent> {
+    @Override
+    public byte typeId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<NewBitEvent> type() {
+        return NewBitEvent.class;
+    }
+
+    @Override
+    public void write(NewBitEvent event, BinaryEventWriter writer) {
+        writer.writeLong(event.getBidId());
+        writer.writeLong(event.getAuctionId());
+        writer.writeDecimal(event.getBidAmount());
+        writer.writeLong(event.getBidderId());
+    }
+
+    @Override
+    public NewBitEvent read(BinaryEventReader reader, int version) {
+        return NewBitEvent.builder()
+                .bidId(reader.readLong())
+                .auctionId(reader.readLong())
+                .bidAmount(reader.readDecimal())
+                .bidderId(reader.readLong())
+                .build();
+    }
+}
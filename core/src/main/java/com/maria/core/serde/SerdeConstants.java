@@ -0,0 +1,11 @@
+package com.maria.core.serde;
+
+public final class SerdeConstants {
+    public final static byte MAGIC = (byte) 0xB1;
+    public final static int HEADER_LENGTH = 3;
+    public final static String BINARY_TOPICS_CONFIG = "event-serde.binary-topics";
+    public final static String EX_UNKNOWN_EVENT_TYPE = "Unknown binary event type id %d";
+    public final static String EX_UNSUPPORTED_VERSION = "Unsupported schema version %d for %s";
+    public final static String EX_DUPLICATE_TYPE_ID = "Duplicate binary event type id %d";
+    public final static String EX_TRUNCATED_EVENT = "Truncated binary event";
+}
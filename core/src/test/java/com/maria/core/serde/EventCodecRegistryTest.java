@@ -0,0 +1,145 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.*;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventCodecRegistryTest {
+    private static final String BINARY_TOPIC = "binary-events";
+    private static final String JSON_TOPIC = "json-events";
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 9, 1, 12, 30, 15, 123_456_789);
+
+    static Stream<Object> populatedEvents() {
+        return Stream.of(
+                NewBitEvent.builder().bidId(48_213L).auctionId(1_204L).bidAmount(new BigDecimal("1520.50")).bidderId(-77_310L).build(),
+                AcceptanceEvent.builder().auctionId(1_204L).userId(77_310L).acceptance(true).build(),
+                InvitationEvent.builder().auctionId(1_204L).sellerId(3L).userId(Long.MAX_VALUE).build(),
+                AuctionItemEvent.builder().auctionId(1_204L).itemId(Long.MIN_VALUE).build(),
+                AuctionStateEvent.builder().auctionId(1_204L).sellerId(3L).currentPrice(new BigDecimal("0.01"))
+                        .startDate(TIMESTAMP).endDate(TIMESTAMP.plusDays(7)).finished(true).build(),
+                NewBidNotificationEvent.builder().timestamp(TIMESTAMP).auctionId(1_204L).newBid(new BigDecimal("1520.50"))
+                        .type(NotificationType.AUCTION_CLOSED).itemId(5_512L).bidderId(77_310L).build(),
+                AuctionFinishedNotificationEvent.builder().timestamp(TIMESTAMP).auctionId(1_204L).itemId(5_512L)
+                        .finalPrice(new BigDecimal("99999.99")).build());
+    }
+
+    static Stream<Object> emptyEvents() {
+        return Stream.of(
+                NewBitEvent.builder().build(),
+                AcceptanceEvent.builder().build(),
+                InvitationEvent.builder().build(),
+                AuctionItemEvent.builder().build(),
+                AuctionStateEvent.builder().build(),
+                NewBidNotificationEvent.builder().build(),
+                AuctionFinishedNotificationEvent.builder().build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("populatedEvents")
+    void encode_RoundTripsEveryField(Object event) {
+        assertThat(roundTrip(event)).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("emptyEvents")
+    void encode_RoundTripsNullFields(Object event) {
+        assertThat(roundTrip(event)).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void encode_RoundTripsDecimalWhoseUnscaledValueExceedsLong() {
+        BigDecimal amount = new BigDecimal(new BigInteger("123456789012345678901234567890"), 4);
+
+        NewBitEvent decoded = (NewBitEvent) roundTrip(NewBitEvent.builder().bidAmount(amount).build());
+
+        assertEquals(amount, decoded.getBidAmount());
+        assertEquals(4, decoded.getBidAmount().scale());
+    }
+
+    @Test
+    void encode_RoundTripsDecimalWithNegativeScale() {
+        BigDecimal amount = new BigDecimal(BigInteger.valueOf(15), -3);
+        BigDecimal hugeAmount = new BigDecimal(BigInteger.TEN.pow(30).negate(), -5);
+
+        assertEquals(amount, ((NewBitEvent) roundTrip(NewBitEvent.builder().bidAmount(amount).build())).getBidAmount());
+        assertEquals(hugeAmount, ((NewBitEvent) roundTrip(NewBitEvent.builder().bidAmount(hugeAmount).build())).getBidAmount());
+    }
+
+    @Test
+    void decode_RejectsNewerSchemaVersion() {
+        byte[] data = EventCodecRegistry.encode(NewBitEvent.builder().auctionId(1L).build());
+        data[2] = (byte) (new NewBitEventCodec().version() + 1);
+
+        assertThrows(SerializationException.class, () -> EventCodecRegistry.decode(data));
+    }
+
+    @Test
+    void decode_RejectsUnknownTypeAndTruncatedPayload() {
+        byte[] data = EventCodecRegistry.encode(AuctionStateEvent.builder().auctionId(1L).currentPrice(BigDecimal.TEN).build());
+        byte[] unknownType = data.clone();
+        unknownType[1] = (byte) 0xFE;
+
+        assertThrows(SerializationException.class, () -> EventCodecRegistry.decode(unknownType));
+        assertThrows(SerializationException.class, () -> EventCodecRegistry.decode(Arrays.copyOf(data, data.length - 1)));
+    }
+
+    @Test
+    void eventDeserializer_DetectsJsonAndBinaryPayloads() {
+        EventSerializer serializer = new EventSerializer();
+        serializer.configure(Map.of(SerdeConstants.BINARY_TOPICS_CONFIG, BINARY_TOPIC), false);
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        NewBitEvent event = NewBitEvent.builder().bidId(1L).auctionId(2L).bidAmount(new BigDecimal("10.50")).bidderId(3L).build();
+
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        byte[] json = serializer.serialize(JSON_TOPIC, jsonHeaders, event);
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = serializer.serialize(BINARY_TOPIC, binaryHeaders, event);
+
+        assertFalse(EventCodecRegistry.isBinary(json));
+        assertTrue(EventCodecRegistry.isBinary(binary));
+        assertThat(deserializer.deserialize(JSON_TOPIC, jsonHeaders, json)).usingRecursiveComparison().isEqualTo(event);
+        assertThat(deserializer.deserialize(BINARY_TOPIC, binaryHeaders, binary)).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void eventSerializer_FallsBackToJsonForTypesWithoutCodec() {
+        EventSerializer serializer = new EventSerializer();
+        serializer.configure(Map.of(SerdeConstants.BINARY_TOPICS_CONFIG, BINARY_TOPIC), false);
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        AuctionCloseEvent event = AuctionCloseEvent.builder().auctionId(5L).expired(true).build();
+
+        RecordHeaders headers = new RecordHeaders();
+        byte[] data = serializer.serialize(BINARY_TOPIC, headers, event);
+
+        assertFalse(EventCodecRegistry.isBinary(data));
+        Object decoded = deserializer.deserialize(BINARY_TOPIC, headers, data);
+        assertInstanceOf(AuctionCloseEvent.class, decoded);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    private Object roundTrip(Object event) {
+        byte[] data = EventCodecRegistry.encode(event);
+        assertTrue(EventCodecRegistry.isBinary(data));
+        return EventCodecRegistry.decode(data);
+    }
+}
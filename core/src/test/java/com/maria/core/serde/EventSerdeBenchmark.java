@@ -0,0 +1,121 @@
+package com.maria.core.serde;
+
+import com.maria.core.entity.AcceptanceEvent;
+import com.maria.core.entity.NewBidNotificationEvent;
+import com.maria.core.entity.NewBitEvent;
+import com.maria.core.entity.NotificationType;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerdeBenchmark {
+    private static final String TOPIC = "benchmark-events";
+
+    @Param({"NewBitEvent", "AcceptanceEvent", "NewBidNotificationEvent"})
+    private String eventType;
+
+    private Object event;
+    private EventSerializer jsonSerializer;
+    private EventSerializer binarySerializer;
+    private EventDeserializer deserializer;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+    private RecordHeaders jsonHeaders;
+
+    @Setup
+    public void setup() {
+        event = createEvent(eventType);
+
+        jsonSerializer = new EventSerializer();
+        jsonSerializer.configure(Map.of(), false);
+        binarySerializer = new EventSerializer();
+        binarySerializer.configure(Map.of(SerdeConstants.BINARY_TOPICS_CONFIG, TOPIC), false);
+        deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+
+        jsonHeaders = new RecordHeaders();
+        jsonBytes = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        binaryBytes = binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return deserializer.deserialize(TOPIC, jsonHeaders, jsonBytes);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), binaryBytes);
+    }
+
+    static Object createEvent(String eventType) {
+        switch (eventType) {
+            case "NewBitEvent":
+                return NewBitEvent.builder()
+                        .bidId(48_213L)
+                        .auctionId(1_204L)
+                        .bidAmount(new BigDecimal("1520.50"))
+                        .bidderId(77_310L)
+                        .build();
+            case "AcceptanceEvent":
+                return AcceptanceEvent.builder()
+                        .auctionId(1_204L)
+                        .userId(77_310L)
+                        .acceptance(true)
+                        .build();
+            default:
+                return NewBidNotificationEvent.builder()
+                        .timestamp(LocalDateTime.of(2024, 9, 1, 12, 30, 15, 123_000_000))
+                        .auctionId(1_204L)
+                        .newBid(new BigDecimal("1520.50"))
+                        .type(NotificationType.NEW_BID)
+                        .itemId(5_512L)
+                        .bidderId(77_310L)
+                        .build();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        EventSerializer json = new EventSerializer();
+        json.configure(Map.of(), false);
+        EventSerializer binary = new EventSerializer();
+        binary.configure(Map.of(SerdeConstants.BINARY_TOPICS_CONFIG, TOPIC), false);
+        for (String eventType : new String[]{"NewBitEvent", "AcceptanceEvent", "NewBidNotificationEvent"}) {
+            Object event = createEvent(eventType);
+            RecordHeaders headers = new RecordHeaders();
+            int jsonSize = json.serialize(TOPIC, headers, event).length;
+            int typeHeaderSize = headers.lastHeader("__TypeId__").value().length;
+            System.out.printf("%s bytes/event: json=%d (+%d type header), binary=%d%n",
+                    eventType, jsonSize, typeHeaderSize, binary.serialize(TOPIC, event).length);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(EventSerdeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
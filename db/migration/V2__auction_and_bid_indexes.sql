@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_bid_auction_amount ON bid (auction_id, bid_amount DESC);
+CREATE INDEX IF NOT EXISTS idx_bid_user_auction_amount ON bid (user_id, auction_id, bid_amount);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_auction_item ON auction (item);
+CREATE INDEX IF NOT EXISTS idx_auction_seller ON auction (seller);
+CREATE INDEX IF NOT EXISTS idx_auction_end_date ON auction (end_date);
+CREATE INDEX IF NOT EXISTS idx_auction_active_end_date ON auction (end_date) WHERE NOT finished;
+CREATE INDEX IF NOT EXISTS idx_auction_active_public_end_date ON auction (end_date) WHERE NOT finished AND public_access;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_auction_feed_public_end_date ON auction (end_date, id) WHERE NOT finished AND public_access;
+CREATE INDEX IF NOT EXISTS idx_auction_feed_public_newest ON auction (id DESC) WHERE NOT finished AND public_access;
+CREATE INDEX IF NOT EXISTS idx_auction_feed_public_price ON auction ((COALESCE(current_price, starting_price)), id) WHERE NOT finished AND public_access;
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS auction_participant (
+    id BIGSERIAL PRIMARY KEY,
+    auction_id BIGINT NOT NULL REFERENCES auction (id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL,
+    joined_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_auction_participant UNIQUE (auction_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_auction_participant_user ON auction_participant (user_id, auction_id);